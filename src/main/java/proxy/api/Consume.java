@@ -7,6 +7,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,8 +17,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import proxy.api.headers.ContentType;
 import proxy.api.request.ConsumerAssignmentRequest;
 import proxy.api.request.ConsumerCommittedRequest;
@@ -31,7 +35,9 @@ import proxy.api.response.ConsumerAssignmentResponse;
 import proxy.api.response.ConsumerCommittedResponse;
 import proxy.api.response.ConsumerSubscriptionResponse;
 import proxy.api.response.CreateConsumerInstanceResponse;
+import proxy.api.response.StreamingRecordsResponse;
 import proxy.common.callback.ConsumerReadCallback;
+import proxy.common.callback.ConsumerStreamCallback;
 import proxy.common.exception.ProxyException;
 import proxy.common.exception.resource.Errors;
 import proxy.domain.ConsumeAction;
@@ -53,6 +59,9 @@ public class Consume {
     @Autowired
     private ConsumeAction consumeAction;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     /**
      * 컨슈머 인스턴스 생성
      * @param config
@@ -389,6 +398,161 @@ public class Consume {
         return response.thenApply(consumeResponse -> ResponseEntity.ok().body(consumeResponse));
     }
 
+    /**
+     * (BINARY) 컨슈머 읽기 작업 생성 (스트리밍 응답)
+     * // timeoutMs: 프록시 서버가 응답에 소요하는 최대 시간
+     * // -> 컨슈머 인스턴스 설정값 중 request.timeout.ms 보다 값이 작은 경우에만 적용됨
+     * @param timeoutMs
+     * // maxBytes: 프록시 서버가 응답할 메시지 키, 값의 최대 바이트 수
+     * // -> 컨슈머 인스턴스 설정값 중 fetch.max.bytes 보다 값이 작은 경우에만 적용됨
+     * @param maxBytes
+     * // mode: 응답 형식 [array, ndjson]
+     * @param mode
+     */
+    @GetMapping(path = API_URI_RESOURCE.CONSUMERS_PARAM_INSTANCES_PARAM_RECORDS_STREAM, produces = ContentType.KAFKA_V2_JSON_BINARY)
+    public ResponseEntity<StreamingResponseBody> streamRecordBinary(
+            @PathVariable(value = "group_name") String groupName,
+            @PathVariable(value = "instance") String instance,
+            @RequestParam(value = "timeout", required = false, defaultValue = "-1") long timeoutMs,
+            @RequestParam(value = "max_bytes", required = false, defaultValue = "-1") long maxBytes,
+            @RequestParam(value = "mode", required = false, defaultValue = "array") String mode) {
+
+        // 컨슈머 읽기 작업 생성
+        return streamRecords(
+            groupName,
+            instance,
+            Duration.ofMillis(timeoutMs),
+            maxBytes,
+            StreamingRecordsResponse.Mode.fromString(mode),
+            ContentType.KAFKA_V2_JSON_BINARY,
+            BinaryConsumerWorker.class,
+            BinaryConsumerRecord::fromConsumerRecord);
+    }
+
+    /**
+     * (JSON) 컨슈머 읽기 작업 생성 (스트리밍 응답)
+     * // timeoutMs: 프록시 서버가 응답에 소요하는 최대 시간
+     * // -> 컨슈머 인스턴스 설정값 중 request.timeout.ms 보다 값이 작은 경우에만 적용됨
+     * @param timeoutMs
+     * // maxBytes: 프록시 서버가 응답할 메시지 키, 값의 최대 바이트 수
+     * // -> 컨슈머 인스턴스 설정값 중 fetch.max.bytes 보다 값이 작은 경우에만 적용됨
+     * @param maxBytes
+     * // mode: 응답 형식 [array, ndjson]
+     * @param mode
+     */
+    @GetMapping(path = API_URI_RESOURCE.CONSUMERS_PARAM_INSTANCES_PARAM_RECORDS_STREAM, produces = ContentType.KAFKA_V2_JSON_JSON)
+    public ResponseEntity<StreamingResponseBody> streamRecordJson(
+            @PathVariable(value = "group_name") String groupName,
+            @PathVariable(value = "instance") String instance,
+            @RequestParam(value = "timeout", required = false, defaultValue = "-1") long timeoutMs,
+            @RequestParam(value = "max_bytes", required = false, defaultValue = "-1") long maxBytes,
+            @RequestParam(value = "mode", required = false, defaultValue = "array") String mode) {
+
+        // 컨슈머 읽기 작업 생성
+        return streamRecords(
+            groupName,
+            instance,
+            Duration.ofMillis(timeoutMs),
+            maxBytes,
+            StreamingRecordsResponse.Mode.fromString(mode),
+            ContentType.KAFKA_V2_JSON_JSON,
+            JsonConsumerWorker.class,
+            JsonConsumerRecord::fromConsumerRecord);
+    }
+
+    /**
+     * (AVRO) 컨슈머 읽기 작업 생성 (스트리밍 응답)
+     * // timeoutMs: 프록시 서버가 응답에 소요하는 최대 시간
+     * // -> 컨슈머 인스턴스 설정값 중 request.timeout.ms 보다 값이 작은 경우에만 적용됨
+     * @param timeoutMs
+     * // maxBytes: 프록시 서버가 응답할 메시지 키, 값의 최대 바이트 수
+     * // -> 컨슈머 인스턴스 설정값 중 fetch.max.bytes 보다 값이 작은 경우에만 적용됨
+     * @param maxBytes
+     * // mode: 응답 형식 [array, ndjson]
+     * @param mode
+     */
+    @GetMapping(path = API_URI_RESOURCE.CONSUMERS_PARAM_INSTANCES_PARAM_RECORDS_STREAM, produces = ContentType.KAFKA_V2_JSON_AVRO)
+    public ResponseEntity<StreamingResponseBody> streamRecordAvro(
+            @PathVariable(value = "group_name") String groupName,
+            @PathVariable(value = "instance") String instance,
+            @RequestParam(value = "timeout", required = false, defaultValue = "-1") long timeoutMs,
+            @RequestParam(value = "max_bytes", required = false, defaultValue = "-1") long maxBytes,
+            @RequestParam(value = "mode", required = false, defaultValue = "array") String mode) {
+
+        // 컨슈머 읽기 작업 생성
+        return streamRecords(
+            groupName,
+            instance,
+            Duration.ofMillis(timeoutMs),
+            maxBytes,
+            StreamingRecordsResponse.Mode.fromString(mode),
+            ContentType.KAFKA_V2_JSON_AVRO,
+            SchemaConsumerWorker.class,
+            SchemaConsumerRecord::fromConsumerRecord);
+    }
+
+    /**
+     * (JSONSCHEMA) 컨슈머 읽기 작업 생성 (스트리밍 응답)
+     * // timeoutMs: 프록시 서버가 응답에 소요하는 최대 시간
+     * // -> 컨슈머 인스턴스 설정값 중 request.timeout.ms 보다 값이 작은 경우에만 적용됨
+     * @param timeoutMs
+     * // maxBytes: 프록시 서버가 응답할 메시지 키, 값의 최대 바이트 수
+     * // -> 컨슈머 인스턴스 설정값 중 fetch.max.bytes 보다 값이 작은 경우에만 적용됨
+     * @param maxBytes
+     * // mode: 응답 형식 [array, ndjson]
+     * @param mode
+     */
+    @GetMapping(path = API_URI_RESOURCE.CONSUMERS_PARAM_INSTANCES_PARAM_RECORDS_STREAM, produces = ContentType.KAFKA_V2_JSON_JSON_SCHEMA)
+    public ResponseEntity<StreamingResponseBody> streamRecordJsonSchema(
+            @PathVariable(value = "group_name") String groupName,
+            @PathVariable(value = "instance") String instance,
+            @RequestParam(value = "timeout", required = false, defaultValue = "-1") long timeoutMs,
+            @RequestParam(value = "max_bytes", required = false, defaultValue = "-1") long maxBytes,
+            @RequestParam(value = "mode", required = false, defaultValue = "array") String mode) {
+
+        // 컨슈머 읽기 작업 생성
+        return streamRecords(
+            groupName,
+            instance,
+            Duration.ofMillis(timeoutMs),
+            maxBytes,
+            StreamingRecordsResponse.Mode.fromString(mode),
+            ContentType.KAFKA_V2_JSON_JSON_SCHEMA,
+            SchemaConsumerWorker.class,
+            SchemaConsumerRecord::fromConsumerRecord);
+    }
+
+    /**
+     * (PROTOBUF) 컨슈머 읽기 작업 생성 (스트리밍 응답)
+     * // timeoutMs: 프록시 서버가 응답에 소요하는 최대 시간
+     * // -> 컨슈머 인스턴스 설정값 중 request.timeout.ms 보다 값이 작은 경우에만 적용됨
+     * @param timeoutMs
+     * // maxBytes: 프록시 서버가 응답할 메시지 키, 값의 최대 바이트 수
+     * // -> 컨슈머 인스턴스 설정값 중 fetch.max.bytes 보다 값이 작은 경우에만 적용됨
+     * @param maxBytes
+     * // mode: 응답 형식 [array, ndjson]
+     * @param mode
+     */
+    @GetMapping(path = API_URI_RESOURCE.CONSUMERS_PARAM_INSTANCES_PARAM_RECORDS_STREAM, produces = ContentType.KAFKA_V2_JSON_PROTOBUF)
+    public ResponseEntity<StreamingResponseBody> streamRecordProtobuf(
+            @PathVariable(value = "group_name") String groupName,
+            @PathVariable(value = "instance") String instance,
+            @RequestParam(value = "timeout", required = false, defaultValue = "-1") long timeoutMs,
+            @RequestParam(value = "max_bytes", required = false, defaultValue = "-1") long maxBytes,
+            @RequestParam(value = "mode", required = false, defaultValue = "array") String mode) {
+
+        // 컨슈머 읽기 작업 생성
+        return streamRecords(
+            groupName,
+            instance,
+            Duration.ofMillis(timeoutMs),
+            maxBytes,
+            StreamingRecordsResponse.Mode.fromString(mode),
+            ContentType.KAFKA_V2_JSON_PROTOBUF,
+            SchemaConsumerWorker.class,
+            SchemaConsumerRecord::fromConsumerRecord);
+    }
+
     /**
      * 컨슈머 읽기 작업 생성
      * @param consumerWorkerType // 메시지 타입별 컨슈머 워커
@@ -432,4 +596,69 @@ public class Consume {
 
         return result;
     }
-}
\ No newline at end of file
+
+    /**
+     * 컨슈머 읽기 작업 생성 (스트리밍 응답)
+     * - 읽기 작업 1회마다 읽어온 레코드를 즉시 응답에 씀
+     * @param mode               // 응답 형식 (JSON 배열, NDJSON)
+     * @param contentType        // JSON 배열 응답 시 Content-Type
+     * @param consumerWorkerType // 메시지 타입별 컨슈머 워커
+     * @param toJsonWrapper      // 컨슈머 레코드 응답값 맵핑 메소드
+     */
+    private <KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT> ResponseEntity<StreamingResponseBody> streamRecords(
+            String groupName,
+            String instance,
+            Duration timeoutMs,
+            long maxBytes,
+            StreamingRecordsResponse.Mode mode,
+            String contentType,
+            Class<? extends ConsumerWorker<KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT>> consumerWorkerType,
+            Function<ConsumerRecord<ClientKeyT, ClientValueT>, ?> toJsonWrapper) {
+
+        // max_bytes 요청값이 0 이하인 경우, 최대 바이트 수에 제한을 두지 않음.
+        maxBytes = (maxBytes <= 0) ? Long.MAX_VALUE : maxBytes;
+
+        StreamingRecordsResponse body = new StreamingRecordsResponse(this.objectMapper, mode);
+
+        // 레코드 읽기 작업 생성
+        this.consumeAction.readRecords(
+            groupName,
+            instance,
+            consumerWorkerType,
+            timeoutMs,
+            maxBytes,
+            new ConsumerStreamCallback<ClientKeyT, ClientValueT>() {
+                @Override
+                public void onBatch(List<ConsumerRecord<ClientKeyT, ClientValueT>> records) {
+                    // 메시지 포맷별 응답값 맵핑 후 전달
+                    body.offer(records.stream().map(toJsonWrapper).collect(Collectors.toList()));
+                }
+
+                @Override
+                public void onCompletion(List<ConsumerRecord<ClientKeyT, ClientValueT>> records, Exception e) {
+                    if (records != null) onBatch(records);
+                    if (e != null) log.error("Received exception during stream records...");
+                    body.complete(e);
+                }
+
+                @Override
+                public boolean isCancelled() {
+                    return body.isCancelled();
+                }
+
+                @Override
+                public boolean isReady() {
+                    return body.isReady();
+                }
+            });
+
+        // 읽기 작업 시작 전 실패한 경우 (인스턴스 없음, 포맷 불일치, 작업 수 초과), 오류 응답
+        if (body.getError() instanceof ProxyException) {
+            throw (ProxyException) body.getError();
+        }
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(mode == StreamingRecordsResponse.Mode.NDJSON ? ContentType.NDJSON : contentType))
+            .body(body);
+    }
+}
@@ -0,0 +1,58 @@
+package proxy.api;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import proxy.api.headers.ContentType;
+import proxy.api.request.ConsumerPushCreditsRequest;
+import proxy.api.resource.API_URI_RESOURCE;
+import proxy.api.response.ConsumerPushCreditsResponse;
+import proxy.domain.ConsumerPushAction;
+import jakarta.validation.Valid;
+
+@RestController
+public class ConsumePush {
+
+    @Autowired
+    private ConsumerPushAction consumerPushAction;
+
+    /**
+     * 컨슈머 인스턴스 push 구독 (Server-Sent Events)
+     * // credits: 초기 크레딧. 크레딧(레코드 수)이 남아있는 동안 읽어온 레코드를 연속으로 전송
+     * @param credits
+     * @return
+     */
+    @GetMapping(path = API_URI_RESOURCE.CONSUMERS_PARAM_INSTANCES_PARAM_RECORDS_PUSH, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter pushRecords(
+            @PathVariable(value = "group_name") String groupName,
+            @PathVariable(value = "instance") String instance,
+            @RequestParam(value = "credits", required = false, defaultValue = "0") long credits) {
+
+        return this.consumerPushAction.subscribe(groupName, instance, credits);
+    }
+
+    /**
+     * 컨슈머 인스턴스 push 구독 크레딧 추가
+     * @param request
+     * @return
+     */
+    @PostMapping(path = API_URI_RESOURCE.CONSUMERS_PARAM_INSTANCES_PARAM_RECORDS_PUSH_CREDITS, produces = ContentType.KAFKA_V2_JSON, consumes = ContentType.KAFKA_V2_JSON)
+    @ResponseBody
+    public ConsumerPushCreditsResponse addCredits(
+            @PathVariable(value = "group_name") String groupName,
+            @PathVariable(value = "instance") String instance,
+            @RequestBody @Valid ConsumerPushCreditsRequest request) {
+
+        long remaining = this.consumerPushAction.addCredits(groupName, instance, request.getCredits());
+
+        return new ConsumerPushCreditsResponse(remaining);
+    }
+}
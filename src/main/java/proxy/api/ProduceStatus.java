@@ -0,0 +1,32 @@
+package proxy.api;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import proxy.api.headers.ContentType;
+import proxy.api.resource.API_URI_RESOURCE;
+import proxy.api.response.ProduceBatchStatusResponse;
+import proxy.domain.ProduceStatusAction;
+
+@RestController
+public class ProduceStatus {
+
+    @Autowired
+    private ProduceStatusAction produceStatusAction;
+
+    /**
+     * 비동기 프로듀싱 결과 조회
+     * @param batchToken // 비동기 프로듀싱 응답의 batch_token
+     * @return
+     */
+    @GetMapping(path = API_URI_RESOURCE.PRODUCE_BATCHES_PARAM, produces = ContentType.KAFKA_V2_JSON)
+    @ResponseBody
+    public ProduceBatchStatusResponse getStatus(
+            @PathVariable(value = "batch_token") String batchToken) {
+
+        return this.produceStatusAction.getStatus(batchToken);
+    }
+}
@@ -8,14 +8,18 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import proxy.api.headers.ContentType;
+import proxy.api.headers.ProxyHeaders;
 import proxy.api.request.ProduceRequest;
 import proxy.api.resource.API_URI_RESOURCE;
 import proxy.api.response.ProduceResponse;
 import proxy.common.format.EmbeddedFormat;
 import proxy.domain.ProduceAction;
+import proxy.domain.ProduceStatusAction;
 import jakarta.validation.Valid;
 
 @RestController
@@ -24,78 +28,130 @@ public class ProduceToTopic {
     @Autowired
     private ProduceAction produceAction;
 
+    @Autowired
+    private ProduceStatusAction produceStatusAction;
+
     /**
      * (BINARY) 토픽 메시지 프로듀싱
+     * @param producerProfile
+     * @param produceMode
+     * @param async
      * @param produceRequest
      * @return
      */
     @PostMapping(path = API_URI_RESOURCE.TOPICS_PARAM, produces = ContentType.KAFKA_V2_JSON, consumes = ContentType.KAFKA_V2_JSON_BINARY)
-    public CompletableFuture<ResponseEntity<ProduceResponse>> produceBinary(
+    public CompletableFuture<ResponseEntity<?>> produceBinary(
             @PathVariable(value = "topic_name") String topicName,
+            @RequestHeader(value = ProxyHeaders.PRODUCER_PROFILE, required = false) String producerProfile,
+            @RequestHeader(value = ProxyHeaders.PRODUCE_MODE, required = false) String produceMode,
+            @RequestParam(value = "async", required = false, defaultValue = "false") boolean async,
             @RequestBody @Valid ProduceRequest produceRequest) {
         
-        var response = this.produceAction.produceWithoutSchema(EmbeddedFormat.BINARY, topicName, /* partitionId= */ Optional.empty(), produceRequest);
+        var response = this.produceAction.produceWithoutSchema(EmbeddedFormat.BINARY, topicName, /* partitionId= */ Optional.empty(), producerProfile, produceRequest);
     
-        return response.thenApply(produceResponse -> ResponseEntity.ok().body(produceResponse));
+        return respond(response, async, produceMode);
     }
 
     /**
      * (JSON) 토픽 메시지 프로듀싱
+     * @param producerProfile
+     * @param produceMode
+     * @param async
      * @param produceRequest
      * @return
      */
     @PostMapping(path = API_URI_RESOURCE.TOPICS_PARAM, produces = ContentType.KAFKA_V2_JSON, consumes = ContentType.KAFKA_V2_JSON_JSON)
-    public CompletableFuture<ResponseEntity<ProduceResponse>> produceJson(
+    public CompletableFuture<ResponseEntity<?>> produceJson(
             @PathVariable(value = "topic_name") String topicName,
+            @RequestHeader(value = ProxyHeaders.PRODUCER_PROFILE, required = false) String producerProfile,
+            @RequestHeader(value = ProxyHeaders.PRODUCE_MODE, required = false) String produceMode,
+            @RequestParam(value = "async", required = false, defaultValue = "false") boolean async,
             @RequestBody @Valid ProduceRequest produceRequest) {
         
-        var response = this.produceAction.produceWithoutSchema(EmbeddedFormat.JSON, topicName, /* partitionId= */ Optional.empty(), produceRequest);
+        var response = this.produceAction.produceWithoutSchema(EmbeddedFormat.JSON, topicName, /* partitionId= */ Optional.empty(), producerProfile, produceRequest);
     
-        return response.thenApply(produceResponse -> ResponseEntity.ok().body(produceResponse));
+        return respond(response, async, produceMode);
     }
 
     /**
      * (AVRO) 토픽 메시지 프로듀싱
+     * @param producerProfile
+     * @param produceMode
+     * @param async
      * @param produceRequest
      * @return
      */
     @PostMapping(path = API_URI_RESOURCE.TOPICS_PARAM, produces = ContentType.KAFKA_V2_JSON, consumes = ContentType.KAFKA_V2_JSON_AVRO)
-    public CompletableFuture<ResponseEntity<ProduceResponse>> produceAvro(
+    public CompletableFuture<ResponseEntity<?>> produceAvro(
             @PathVariable(value = "topic_name") String topicName,
+            @RequestHeader(value = ProxyHeaders.PRODUCER_PROFILE, required = false) String producerProfile,
+            @RequestHeader(value = ProxyHeaders.PRODUCE_MODE, required = false) String produceMode,
+            @RequestParam(value = "async", required = false, defaultValue = "false") boolean async,
             @RequestBody @Valid ProduceRequest produceRequest) {
         
-        var response = this.produceAction.produceWithSchema(EmbeddedFormat.AVRO, topicName, /* partitionId= */ Optional.empty(), produceRequest);
+        var response = this.produceAction.produceWithSchema(EmbeddedFormat.AVRO, topicName, /* partitionId= */ Optional.empty(), producerProfile, produceRequest);
     
-        return response.thenApply(produceResponse -> ResponseEntity.ok().body(produceResponse));
+        return respond(response, async, produceMode);
     }
 
     /**
      * (JSON SCHEMA) 토픽 메시지 프로듀싱
+     * @param producerProfile
+     * @param produceMode
+     * @param async
      * @param produceRequest
      * @return
      */
     @PostMapping(path = API_URI_RESOURCE.TOPICS_PARAM, produces = ContentType.KAFKA_V2_JSON, consumes = ContentType.KAFKA_V2_JSON_JSON_SCHEMA)
-    public CompletableFuture<ResponseEntity<ProduceResponse>> produceJsonSchema(
+    public CompletableFuture<ResponseEntity<?>> produceJsonSchema(
             @PathVariable(value = "topic_name") String topicName,
+            @RequestHeader(value = ProxyHeaders.PRODUCER_PROFILE, required = false) String producerProfile,
+            @RequestHeader(value = ProxyHeaders.PRODUCE_MODE, required = false) String produceMode,
+            @RequestParam(value = "async", required = false, defaultValue = "false") boolean async,
             @RequestBody @Valid ProduceRequest produceRequest) {
         
-        var response = this.produceAction.produceWithSchema(EmbeddedFormat.JSONSCHEMA, topicName, /* partitionId= */ Optional.empty(), produceRequest);
+        var response = this.produceAction.produceWithSchema(EmbeddedFormat.JSONSCHEMA, topicName, /* partitionId= */ Optional.empty(), producerProfile, produceRequest);
     
-        return response.thenApply(produceResponse -> ResponseEntity.ok().body(produceResponse));
+        return respond(response, async, produceMode);
     }
 
     /**
      * (PROTOBUF) 토픽 메시지 프로듀싱
+     * @param producerProfile
+     * @param produceMode
+     * @param async
      * @param produceRequest
      * @return
      */
     @PostMapping(path = API_URI_RESOURCE.TOPICS_PARAM, produces = ContentType.KAFKA_V2_JSON, consumes = ContentType.KAFKA_V2_JSON_PROTOBUF)
-    public CompletableFuture<ResponseEntity<ProduceResponse>> produceProtobuf(
+    public CompletableFuture<ResponseEntity<?>> produceProtobuf(
             @PathVariable(value = "topic_name") String topicName,
+            @RequestHeader(value = ProxyHeaders.PRODUCER_PROFILE, required = false) String producerProfile,
+            @RequestHeader(value = ProxyHeaders.PRODUCE_MODE, required = false) String produceMode,
+            @RequestParam(value = "async", required = false, defaultValue = "false") boolean async,
             @RequestBody @Valid ProduceRequest produceRequest) {
         
-        var response = this.produceAction.produceWithSchema(EmbeddedFormat.PROTOBUF, topicName, /* partitionId= */ Optional.empty(), produceRequest);
+        var response = this.produceAction.produceWithSchema(EmbeddedFormat.PROTOBUF, topicName, /* partitionId= */ Optional.empty(), producerProfile, produceRequest);
     
+        return respond(response, async, produceMode);
+    }
+
+    /**
+     * <pre>
+     * 프로듀싱 결과 응답
+     * - 비동기 모드인 경우, 브로커 응답을 기다리지 않고 배치 토큰과 함께 202 응답
+     * - 직렬화/검증 오류는 응답 전에 발생하므로, 비동기 모드에서도 동기 모드와 동일하게 오류 응답
+     * </pre>
+     * @param response    // 프로듀싱 결과
+     * @param async       // async 쿼리 파라미터
+     * @param produceMode // X-Produce-Mode 헤더값
+     * @return
+     */
+    private CompletableFuture<ResponseEntity<?>> respond(CompletableFuture<ProduceResponse> response, boolean async, String produceMode) {
+        if (this.produceStatusAction.isAsync(async, produceMode)) {
+            return CompletableFuture.completedFuture(ResponseEntity.accepted().body(this.produceStatusAction.accept(response)));
+        }
+
         return response.thenApply(produceResponse -> ResponseEntity.ok().body(produceResponse));
     }
 }
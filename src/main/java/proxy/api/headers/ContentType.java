@@ -16,4 +16,5 @@ public class ContentType {
     public static final String KAFKA_V2_JSON_PROTOBUF = "application/vnd.kafka.protobuf.v2+json";
 
     public static final String JSON = "application/json";
+    public static final String NDJSON = "application/x-ndjson";
 }
@@ -0,0 +1,11 @@
+package proxy.api.headers;
+
+/**
+ * kafka rest proxy Headers: 프록시 전용 요청 헤더 목록
+ */
+public class ProxyHeaders {
+    // 프로듀싱에 사용할 프로듀서 프로파일명
+    public static final String PRODUCER_PROFILE = "X-Producer-Profile";
+    // 프로듀싱 응답 방식 (async: 브로커 응답을 기다리지 않고 202 응답)
+    public static final String PRODUCE_MODE = "X-Produce-Mode";
+}
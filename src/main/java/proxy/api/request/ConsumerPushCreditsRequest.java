@@ -0,0 +1,18 @@
+package proxy.api.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 컨슈머 push 구독 크레딧 추가 요청
+ */
+@Getter
+@NoArgsConstructor
+public class ConsumerPushCreditsRequest {
+
+    @NotNull
+    @PositiveOrZero
+    private Long credits; // 추가할 크레딧 (전송할 레코드 수)
+}
@@ -54,13 +54,23 @@ public class CreateConsumerInstanceRequest {
     @JsonProperty(value = "request.timeout.ms")
     private final Integer requestTimeoutMs;
 
+    // 백그라운드 프리패치 사용 여부
+    @Nullable
+    @JsonProperty(value = "prefetch.enable")
+    private final Boolean prefetchEnable;
+
+    // 컨슈머 인스턴스 만료 시간 (마지막 요청 이후 인스턴스를 유지하는 시간)
+    @Nullable
+    @JsonProperty(value = "consumer.instance.timeout.ms")
+    private final Long instanceTimeoutMs;
+
     /**
      * {@link CreateConsumerInstanceRequest} -> {@link ConsumerInstanceConfig} 변환
      * @return
      */
     public ConsumerInstanceConfig toConsumerInstanceConfig() {
         return new ConsumerInstanceConfig(
-            id, name, computeFormat(format), autoOffsetReset, enableAutoCommit, fetchMinBytes, requestTimeoutMs);
+            id, name, computeFormat(format), autoOffsetReset, enableAutoCommit, fetchMinBytes, requestTimeoutMs, prefetchEnable, instanceTimeoutMs);
     }
 
     private EmbeddedFormat computeFormat(@Nullable String format) {
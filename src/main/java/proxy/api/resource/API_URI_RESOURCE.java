@@ -19,7 +19,10 @@ public class API_URI_RESOURCE {
             CONSUMERS_PARAM_INSTANCES_PARAM_OFFSETS,
             CONSUMERS_PARAM_INSTANCES_PARAM_SUBSCRIPTION,
             CONSUMERS_PARAM_INSTANCES_PARAM_ASSIGNMENTS,
-            CONSUMERS_PARAM_INSTANCES_PARAM_RECORDS
+            CONSUMERS_PARAM_INSTANCES_PARAM_RECORDS,
+            CONSUMERS_PARAM_INSTANCES_PARAM_RECORDS_STREAM,
+            CONSUMERS_PARAM_INSTANCES_PARAM_RECORDS_PUSH,
+            PRODUCE_BATCHES_PARAM
         );
     }
 
@@ -34,7 +37,8 @@ public class API_URI_RESOURCE {
             CONSUMERS_PARAM_INSTANCES_PARAM_ASSIGNMENTS,
             CONSUMERS_PARAM_INSTANCES_PARAM_POSITIONS,
             CONSUMERS_PARAM_INSTANCES_PARAM_POSITIONS_BEGINNING,
-            CONSUMERS_PARAM_INSTANCES_PARAM_POSITIONS_END
+            CONSUMERS_PARAM_INSTANCES_PARAM_POSITIONS_END,
+            CONSUMERS_PARAM_INSTANCES_PARAM_RECORDS_PUSH_CREDITS
         );
     }
 
@@ -48,6 +52,7 @@ public class API_URI_RESOURCE {
     // Producer
     public static final String TOPICS_PARAM = "/topics/{topic_name}";
     public static final String TOPICS_PARAM_PARTITIONS_PARAM = "/topics/{topic_name}/partitions/{partition_id}";
+    public static final String PRODUCE_BATCHES_PARAM = "/produce/batches/{batch_token}";
 
     // Consumer
     public static final String CONSUMERS_PARAM = "/consumers/{group_name}";
@@ -60,4 +65,7 @@ public class API_URI_RESOURCE {
     public static final String CONSUMERS_PARAM_INSTANCES_PARAM_POSITIONS_BEGINNING = "/consumers/{group_name}/instances/{instance}/positions/beginning";
     public static final String CONSUMERS_PARAM_INSTANCES_PARAM_POSITIONS_END = "/consumers/{group_name}/instances/{instance}/positions/end";
     public static final String CONSUMERS_PARAM_INSTANCES_PARAM_RECORDS = "/consumers/{group_name}/instances/{instance}/records";
+    public static final String CONSUMERS_PARAM_INSTANCES_PARAM_RECORDS_STREAM = "/consumers/{group_name}/instances/{instance}/records/stream";
+    public static final String CONSUMERS_PARAM_INSTANCES_PARAM_RECORDS_PUSH = "/consumers/{group_name}/instances/{instance}/records/push";
+    public static final String CONSUMERS_PARAM_INSTANCES_PARAM_RECORDS_PUSH_CREDITS = "/consumers/{group_name}/instances/{instance}/records/push/credits";
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package proxy.api.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 컨슈머 push 구독 크레딧 추가 응답
+ */
+@Getter
+@RequiredArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class ConsumerPushCreditsResponse {
+
+    private final long credits; // 남은 크레딧
+}
@@ -0,0 +1,20 @@
+package proxy.api.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 오류 응답
+ */
+@Getter
+@RequiredArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class ErrorResponse {
+
+    private final int errorCode;  // 에러 코드
+
+    private final String message; // 에러 메시지
+}
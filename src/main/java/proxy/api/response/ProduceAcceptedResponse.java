@@ -0,0 +1,18 @@
+package proxy.api.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비동기 프로듀싱 접수 응답
+ */
+@Getter
+@RequiredArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class ProduceAcceptedResponse {
+
+    private final String batchToken; // 프로듀싱 결과 조회 토큰
+}
@@ -0,0 +1,46 @@
+package proxy.api.response;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import proxy.api.response.ProduceResponse.PartitionOffset;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비동기 프로듀싱 결과 조회 응답
+ */
+@Getter
+@RequiredArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class ProduceBatchStatusResponse {
+
+    private final String batchToken;             // 프로듀싱 결과 조회 토큰
+    private final Status status;                 // 처리 상태
+    @Nullable
+    private final List<PartitionOffset> offsets; // 파티션 및 오프셋 목록 (완료 시, 레코드별 오류 포함)
+    @Nullable
+    private final Integer keySchemaId;           // 키 스키마ID
+    @Nullable
+    private final Integer valueSchemaId;         // 값 스키마ID
+    @Nullable
+    private final Integer errorCode;             // 오류 코드 (실패 시)
+    @Nullable
+    private final String error;                  // 오류 메시지 (실패 시)
+
+    /**
+     * 처리 상태
+     * - PENDING  : 브로커 응답 대기 중
+     * - COMPLETED: 모든 레코드의 브로커 응답 수신 (레코드별 성공/실패는 offsets 참조)
+     * - FAILED   : 배치 처리 중 오류 발생
+     */
+    public enum Status {
+        PENDING,
+        COMPLETED,
+        FAILED
+    }
+}
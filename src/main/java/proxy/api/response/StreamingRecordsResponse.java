@@ -0,0 +1,156 @@
+package proxy.api.response;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <pre>
+ * 컨슈머 레코드 스트리밍 응답
+ * - 읽기 작업 1회마다 전달받은 레코드 목록을 즉시 응답에 쓰고 flush
+ * - JSON 배열 또는 NDJSON(레코드당 한 줄) 형식으로 응답
+ * - 응답에 쓰는 중인 레코드 목록이 있으면 읽기 작업이 다음 레코드를 읽지 않으므로, 메모리에는 레코드 목록 1개만 보관됨
+ * </pre>
+ */
+@Slf4j
+public class StreamingRecordsResponse implements StreamingResponseBody {
+
+    /**
+     * 스트리밍 응답 형식
+     */
+    public enum Mode {
+        ARRAY,
+        NDJSON;
+
+        public static Mode fromString(String mode) {
+            return "ndjson".equalsIgnoreCase(mode) ? NDJSON : ARRAY;
+        }
+    }
+
+    // 응답 종료 여부 확인 주기 (ms)
+    private static final long COMPLETION_CHECK_MS = 100;
+
+    private final ObjectMapper objectMapper;
+    @Getter
+    private final Mode mode;
+
+    // 응답에 쓸 레코드 목록 (읽기 작업 스레드 -> 응답 스레드, 최대 1개)
+    private final BlockingQueue<List<?>> events = new ArrayBlockingQueue<>(1);
+    // 전달했지만 아직 응답에 다 쓰지 않은 레코드 목록 수
+    private final AtomicInteger pending = new AtomicInteger();
+
+    // 응답 종료 여부
+    private volatile boolean completed = false;
+
+    // 클라이언트 연결 종료 여부
+    private volatile boolean cancelled = false;
+    // 읽기 작업 실패 시, 오류 내용
+    @Getter
+    private volatile Exception error;
+
+    public StreamingRecordsResponse(ObjectMapper objectMapper, Mode mode) {
+        this.objectMapper = objectMapper;
+        this.mode = mode;
+    }
+
+    /**
+     * <pre>
+     * 응답에 쓸 레코드 목록 추가
+     * - {@link #isReady()}가 true 인 경우에만 호출해야 하며, 이전 레코드 목록이 남아있는 경우 응답 스레드가 꺼낼 때까지 대기
+     * </pre>
+     * @param records // 응답값 맵핑된 레코드 목록
+     */
+    public void offer(List<?> records) {
+        if (cancelled || records.isEmpty()) return;
+
+        pending.incrementAndGet();
+        try {
+            while (!cancelled && !events.offer(records, COMPLETION_CHECK_MS, TimeUnit.MILLISECONDS)) {
+                // 응답 스레드가 이전 레코드 목록을 꺼낼 때까지 대기
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 이전에 전달한 레코드 목록을 모두 응답에 썼는지 여부 반환 (true: 다음 레코드 목록을 받을 수 있음)
+     * @return
+     */
+    public boolean isReady() {
+        return pending.get() == 0;
+    }
+
+    /**
+     * 응답 종료
+     * @param e // 읽기 작업 실패 시, 오류 내용
+     */
+    public void complete(Exception e) {
+        this.error = e;
+        this.completed = true;
+    }
+
+    /**
+     * 클라이언트 연결 종료 여부 반환 (true: 종료됨)
+     * @return
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        boolean first = true;
+
+        try {
+            if (mode == Mode.ARRAY) out.write('[');
+            out.flush();
+
+            while (true) {
+                List<?> batch = events.poll(COMPLETION_CHECK_MS, TimeUnit.MILLISECONDS);
+                if (batch == null) {
+                    // 응답이 종료되었고 남은 레코드 목록이 없는 경우, 종료
+                    if (completed && events.isEmpty()) break;
+                    continue;
+                }
+
+                for (Object record : batch) {
+                    if (mode == Mode.ARRAY && !first) out.write(',');
+                    out.write(objectMapper.writeValueAsBytes(record));
+                    if (mode == Mode.NDJSON) out.write('\n');
+                    first = false;
+                }
+
+                // 읽기 작업 1회 단위로 전송
+                out.flush();
+                pending.decrementAndGet();
+            }
+
+            // 응답 시작 이후 발생한 오류는 상태 코드로 전달할 수 없으므로, 로그만 남기고 응답 종료
+            if (error != null) {
+                log.warn("Consumer record stream terminated by exception", error);
+            }
+
+            if (mode == Mode.ARRAY) out.write(']');
+            out.flush();
+        } catch (InterruptedException e) {
+            cancelled = true;
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // 클라이언트 연결 종료
+            cancelled = true;
+            throw e;
+        }
+    }
+}
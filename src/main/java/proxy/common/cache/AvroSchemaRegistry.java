@@ -0,0 +1,41 @@
+package proxy.common.cache;
+
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import proxy.common.util.AvroSchemaUtil;
+import proxy.common.util.AvroSchemaUtil.CompiledSchema;
+
+/**
+ * <pre>
+ * 스키마ID별 파싱된 Avro 스키마 저장소
+ * - 스키마(내용) 파싱 및 reader/writer 생성은 스키마ID별로 한 번만 수행
+ * - 직렬화(프로듀스), 역직렬화(컨슘)에서 공유
+ * </pre>
+ */
+@Component
+public class AvroSchemaRegistry {
+
+    @Autowired
+    private ProxyCacheManager cacheManager;
+
+    /**
+     * 스키마ID에 해당하는 파싱된 스키마 반환 (없는 경우, 스키마(내용)를 파싱 후 저장)
+     * @param schemaId  // 스키마ID
+     * @param rawSchema // 스키마(내용) 조회 함수 (파싱된 스키마가 없는 경우에만 호출)
+     * @return
+     */
+    public CompiledSchema getCompiledSchema(int schemaId, Supplier<String> rawSchema) {
+        CompiledSchema compiled = this.cacheManager.get(CacheConfig.ID_TO_AVRO_SCHEMA, schemaId, CompiledSchema.class);
+
+        // 저장된 스키마가 없는 경우, 파싱 후 저장
+        if (compiled == null) {
+            compiled = AvroSchemaUtil.compile(rawSchema.get());
+            this.cacheManager.put(CacheConfig.ID_TO_AVRO_SCHEMA, schemaId, compiled);
+        }
+
+        return compiled;
+    }
+}
@@ -11,9 +11,11 @@ import lombok.Getter;
  */
 @Getter
 public enum CacheConfig {
-    ID_TO_SCHEMA(1440, 10000),      // 만료: 1일, 크기: 1만 개
-    SCHEMA_TO_ID(1440, 10000),      // 만료: 1일, 크기: 1만 개
-    SCHEMA_TO_VERSION(1440, 10000), // 만료: 1일, 크기: 1만 개
+    ID_TO_AVRO_SCHEMA(1440, 10000), // 만료: 1일, 크기: 1만 개 (파싱된 avro 스키마, reader)
+    ID_TO_PROTOBUF_DESCRIPTOR(1440, 10000), // 만료: 1일, 크기: 1만 개 (protobuf 디스크립터)
+    ID_TO_JSON_SCHEMA_VALIDATOR(1440, 1000), // 만료: 1일, 크기: 1천 개 (컴파일된 json 스키마 검증기)
+
+    PRODUCE_BATCH_STATUS(10, 100000), // 만료: 10분, 크기: 10만 개 (비동기 프로듀싱 결과)
 
     MISSING_SCHEMA_ID(1, 10000),    // 만료: 1분, 크기: 1만 개
     MISSING_SCHEMA(1, 10000)        // 만료: 1분, 크기: 1만 개
@@ -0,0 +1,73 @@
+package proxy.common.cache;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import proxy.common.config.KafkaRestConfig;
+import proxy.common.validator.JsonSchemaValidator;
+import proxy.common.validator.JsonSchemaValidatorEngine;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <pre>
+ * 스키마ID별 JSON 스키마 검증기 저장소
+ * - 스키마(내용) 파싱 및 검증기 컴파일은 스키마ID별로 한 번만 수행
+ * - 직렬화(프로듀스), 역직렬화(컨슘)에서 공유
+ * - 검증 엔진은 {@code schema.jsonschema.validator} 설정값으로 선택
+ * </pre>
+ */
+@Component
+@Slf4j
+public class JsonSchemaValidatorRegistry implements SmartInitializingSingleton {
+
+    @Autowired
+    private ProxyCacheManager cacheManager;
+
+    @Autowired
+    private KafkaRestConfig kafkaRestConfig;
+
+    @Autowired
+    private List<JsonSchemaValidatorEngine> engines;
+
+    // 사용할 검증 엔진
+    private JsonSchemaValidatorEngine engine;
+
+    /**
+     * 설정값에 해당하는 검증 엔진 선택
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        String name = kafkaRestConfig.getJsonSchemaValidator();
+
+        this.engine = engines.stream()
+            .filter(e -> e.getName().equalsIgnoreCase(name))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("Unknown JSON schema validator engine: " + name));
+
+        log.info("Using JSON schema validator engine [{}]", engine.getName());
+    }
+
+    /**
+     * 스키마ID에 해당하는 검증기 반환 (없는 경우, 스키마(내용)로 컴파일 후 저장)
+     * @param schemaId  // 스키마ID
+     * @param rawSchema // 스키마(내용) 조회 함수 (검증기가 없는 경우에만 호출)
+     * @return
+     * @throws IOException 유효하지 않은 스키마인 경우
+     */
+    public JsonSchemaValidator getValidator(int schemaId, Supplier<String> rawSchema) throws IOException {
+        JsonSchemaValidator validator = this.cacheManager.get(CacheConfig.ID_TO_JSON_SCHEMA_VALIDATOR, schemaId, JsonSchemaValidator.class);
+
+        // 저장된 검증기가 없는 경우, 컴파일 후 저장
+        if (validator == null) {
+            validator = this.engine.compile(rawSchema.get());
+            this.cacheManager.put(CacheConfig.ID_TO_JSON_SCHEMA_VALIDATOR, schemaId, validator);
+        }
+
+        return validator;
+    }
+}
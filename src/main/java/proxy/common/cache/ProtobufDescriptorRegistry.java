@@ -0,0 +1,46 @@
+package proxy.common.cache;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+
+import proxy.common.util.ProtobufSchemaUtil;
+
+/**
+ * <pre>
+ * 스키마ID별 Protobuf 디스크립터 저장소
+ * - 스키마(내용) 파싱 및 디스크립터 생성은 스키마ID별로 한 번만 수행
+ * - 직렬화(프로듀스), 역직렬화(컨슘)에서 공유
+ * </pre>
+ */
+@Component
+public class ProtobufDescriptorRegistry {
+
+    @Autowired
+    private ProxyCacheManager cacheManager;
+
+    /**
+     * 스키마ID에 해당하는 디스크립터 반환 (없는 경우, 스키마(내용)로 생성 후 저장)
+     * @param schemaId  // 스키마ID
+     * @param rawSchema // 스키마(내용) 조회 함수 (디스크립터가 없는 경우에만 호출)
+     * @return
+     * @throws IOException
+     * @throws DescriptorValidationException
+     */
+    public Descriptor getDescriptor(int schemaId, Supplier<String> rawSchema) throws IOException, DescriptorValidationException {
+        Descriptor descriptor = this.cacheManager.get(CacheConfig.ID_TO_PROTOBUF_DESCRIPTOR, schemaId, Descriptor.class);
+
+        // 저장된 디스크립터가 없는 경우, 생성 후 저장
+        if (descriptor == null) {
+            descriptor = ProtobufSchemaUtil.getDescriptor(rawSchema.get());
+            this.cacheManager.put(CacheConfig.ID_TO_PROTOBUF_DESCRIPTOR, schemaId, descriptor);
+        }
+
+        return descriptor;
+    }
+}
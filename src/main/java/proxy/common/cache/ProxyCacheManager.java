@@ -34,6 +34,7 @@ public class ProxyCacheManager {
                     var caffeine = Caffeine.newBuilder()
                             .expireAfterWrite(Duration.ofMinutes(e.getMinutesForExpireAfterAccess()))
                             .maximumSize(e.getMaximumSize())
+                            .recordStats() // 캐시 적중률, 제거 건수 메트릭 (actuator cache.* 메트릭으로 노출)
                             .build();
                     return new CaffeineCache(e.name(), caffeine);
                 })
@@ -0,0 +1,25 @@
+package proxy.common.callback;
+
+import java.util.List;
+
+import proxy.infra.kafka.result.ConsumerRecord;
+
+/**
+ * <pre>
+ * 메시지 컨슈밍 작업 중 레코드를 읽을 때마다 전달받는 콜백 (스트리밍 응답)
+ * -> 읽기 작업 1회마다 읽어온 레코드 목록 전달
+ * -> 작업 종료 시, {@link ConsumerReadCallback#onCompletion}으로 남은 레코드/예외 반환
+ * </pre>
+ */
+public interface ConsumerStreamCallback<K, V> extends ConsumerReadCallback<K, V> {
+    void onBatch(List<ConsumerRecord<K, V>> records);
+
+    // 클라이언트 연결이 끊어진 경우 true (읽기 작업 중단)
+    boolean isCancelled();
+
+    // 이전에 전달한 레코드 목록을 모두 처리하여 다음 레코드 목록을 받을 수 있는 경우 true
+    // (false 인 경우, 이번 읽기 작업은 레코드를 읽지 않고 백오프 후 재시도)
+    default boolean isReady() {
+        return true;
+    }
+}
@@ -52,6 +52,14 @@ public class ConsumerInstanceConfig {
     // 이 설정값 이내에 poll() 메서드가 호출되지 않으면, broker는 해당 consumer가 죽었다고 판단하고 해당 consumer의 파티션 할당을 다른 consumer에게 재할당함.
     private Integer maxPollIntervalMs;
 
+    // 백그라운드 프리패치 사용 여부 (요청값이 없는 경우, 서버 설정값 적용)
+    @Nullable
+    private Boolean prefetchEnable;
+
+    // 컨슈머 인스턴스 만료 시간 (요청값이 없는 경우, 서버 설정값 적용)
+    @Nullable
+    private Long instanceTimeoutMs;
+
     /**
      * Constructor for consumer instance create request
      * @param id
@@ -61,9 +69,12 @@ public class ConsumerInstanceConfig {
      * @param enableAutoCommit
      * @param fetchMinBytes
      * @param requestTimeoutMs
+     * @param prefetchEnable
+     * @param instanceTimeoutMs
      */
     public ConsumerInstanceConfig(String id, String name, EmbeddedFormat format, String autoOffsetReset,
-            String enableAutoCommit, Integer fetchMinBytes, Integer requestTimeoutMs) {
+            String enableAutoCommit, Integer fetchMinBytes, Integer requestTimeoutMs, Boolean prefetchEnable,
+            Long instanceTimeoutMs) {
         this.id = id;
         this.name = name;
         this.format = format;
@@ -71,6 +82,8 @@ public class ConsumerInstanceConfig {
         this.enableAutoCommit = enableAutoCommit;
         this.fetchMinBytes = fetchMinBytes;
         this.requestTimeoutMs = requestTimeoutMs;
+        this.prefetchEnable = prefetchEnable;
+        this.instanceTimeoutMs = instanceTimeoutMs;
     }
 
     /**
@@ -90,4 +103,26 @@ public class ConsumerInstanceConfig {
 
         return this;
     }
+
+    /**
+     * 백그라운드 프리패치 사용 여부 세팅 및 반환
+     * @param prefetchEnable
+     * @return
+     */
+    public ConsumerInstanceConfig setPrefetchEnable(Boolean prefetchEnable) {
+        this.prefetchEnable = prefetchEnable;
+
+        return this;
+    }
+
+    /**
+     * 컨슈머 인스턴스 만료 시간 세팅 및 반환
+     * @param instanceTimeoutMs
+     * @return
+     */
+    public ConsumerInstanceConfig setInstanceTimeoutMs(Long instanceTimeoutMs) {
+        this.instanceTimeoutMs = instanceTimeoutMs;
+
+        return this;
+    }
 }
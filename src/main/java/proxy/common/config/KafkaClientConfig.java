@@ -14,6 +14,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
+import io.spitha.felice.common.config.ProducerProfileConfig.ProducerProfile;
 import io.spitha.felice.common.deserializer.AvroDeserializer;
 import io.spitha.felice.common.deserializer.JsonSchemaDeserializer;
 import io.spitha.felice.common.deserializer.ProtobufDeserializer;
@@ -46,6 +47,37 @@ public class KafkaClientConfig {
         return producerProps;
     }
 
+    /**
+     * producer config (프로파일 설정값 적용)
+     * @param producerId
+     * @param profile    // 프로듀서 프로파일 (null 인 경우, 기본 설정)
+     * @return
+     */
+    public Properties getProducerConfig(String producerId, ProducerProfile profile) {
+        Properties producerProps = getProducerConfig(producerId);
+        if (profile == null) return producerProps;
+
+        // 그 외 프로듀서 설정값
+        producerProps.putAll(profile.getConfigs());
+
+        if (StringUtils.hasText(profile.getAcks()))
+            producerProps.put(ProducerConfig.ACKS_CONFIG, profile.getAcks());
+        // 배치를 채우기 위해 전송을 지연하는 최대 시간
+        if (profile.getLingerMs() != null)
+            producerProps.put(ProducerConfig.LINGER_MS_CONFIG, profile.getLingerMs());
+        // 파티션별 배치 최대 크기
+        if (profile.getBatchSize() != null)
+            producerProps.put(ProducerConfig.BATCH_SIZE_CONFIG, profile.getBatchSize());
+        // 배치 압축 방식 (none, gzip, snappy, lz4, zstd)
+        if (StringUtils.hasText(profile.getCompressionType()))
+            producerProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, profile.getCompressionType());
+        // 연결별 응답을 받지 않은 최대 요청 수
+        if (profile.getMaxInFlightRequestsPerConnection() != null)
+            producerProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, profile.getMaxInFlightRequestsPerConnection());
+
+        return producerProps;
+    }
+
     /**
      * consumer config
      * @param groupName
@@ -82,9 +114,9 @@ public class KafkaClientConfig {
         // fetch 요청에 의해 받을 수 있는 최대 데이터 크기
         // fetch message 단건의 크기가 이 설정값보다 큰 경우, [RecordTooLargeException] 발생
         // (Unit: bytes, Default value: 5000000 (=5MiB))
-        consumerProps.put(ConsumerConfig.FETCH_MAX_BYTES_CONFIG, 64 * 1024 * 1024);
+        consumerProps.put(ConsumerConfig.FETCH_MAX_BYTES_CONFIG, this.kafkaRestConfig.getConsumerFetchMaxBytes());
         // 한 번의 fetch 요청으로 가져올 수 있는 최대 메시지 개수 (Default value: 500)
-        consumerProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 30);
+        consumerProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, this.kafkaRestConfig.getConsumerMaxPollRecords());
         // fetch 요청에 대해 서버에서 응답할 데이터가 [fetch.min.bytes]에 미치지 못한 경우 응답을 기다리는 최대 시간
         // [fetch.min.bytes] 지정한 크기만큼 데이터가 충분하지 않은 경우, 서버는 [fetch.max.wait.ms]에서 설정한 시간 동안 fetch 요청을 차단함.
         // (Unit: milliseconds, Default value: 500)
@@ -60,7 +60,127 @@ public class KafkaRestConfig {
     @Value("${schema.registry.password:}")
     private String schemaRegistryPassword;
 
+    @Value("${schema.registry.http.max-connections:20}")
+    private int schemaRegistryHttpMaxConnections;
+
+    @Value("${schema.registry.http.connect-timeout-ms:5000}")
+    private int schemaRegistryHttpConnectTimeoutMs;
+
+    @Value("${schema.registry.http.read-timeout-ms:10000}")
+    private int schemaRegistryHttpReadTimeoutMs;
+
+    @Value("${schema.registry.http.connection-request-timeout-ms:5000}")
+    private int schemaRegistryHttpConnectionRequestTimeoutMs;
+
+    @Value("${schema.registry.http.retries:2}")
+    private int schemaRegistryHttpRetries;
+
+    @Value("${schema.registry.latest.refresh-ms:30000}")
+    private long schemaRegistryLatestRefreshMs;
+
+    @Value("${schema.registry.latest.max-stale-ms:86400000}")
+    private long schemaRegistryLatestMaxStaleMs;
+
+    @Value("${schema.jsonschema.validator:fge}")
+    private String jsonSchemaValidator;
+
     @Value("${ignore-ssl-validation:false}")
     private boolean ignoreSslValidation;
+
+    @Value("${producer.pool.size:1}")
+    private int producerPoolSize;
+
+    @Value("${producer.pool.routing:topic}")
+    private String producerPoolRouting;
+
+    @Value("${producer.circuit.failure-threshold:5}")
+    private int producerCircuitFailureThreshold;
+
+    @Value("${producer.circuit.recovery-backoff-ms:1000}")
+    private long producerCircuitRecoveryBackoffMs;
+
+    @Value("${producer.circuit.recovery-max-backoff-ms:30000}")
+    private long producerCircuitRecoveryMaxBackoffMs;
+
+    @Value("${producer.circuit.warm-up-topic:}")
+    private String producerCircuitWarmUpTopic;
+
+    @Value("${producer.inflight.max-records:100000}")
+    private long producerInflightMaxRecords;
+
+    @Value("${producer.inflight.max-bytes:33554432}")
+    private long producerInflightMaxBytes;
+
+    @Value("${producer.inflight.max-records-per-topic:50000}")
+    private long producerInflightMaxRecordsPerTopic;
+
+    @Value("${producer.inflight.max-bytes-per-topic:16777216}")
+    private long producerInflightMaxBytesPerTopic;
+
+    @Value("${http.retry-after-seconds:1}")
+    private int httpRetryAfterSeconds;
+
+    @Value("${consumer.read.backoff-ms:50}")
+    private long consumerReadBackoffMs;
+
+    @Value("${consumer.read.poll-timeout-ms:100}")
+    private long consumerReadPollTimeoutMs;
+
+    @Value("${consumer.read.parallelism:16}")
+    private int consumerReadParallelism;
+
+    @Value("${consumer.read.queue-capacity:1000}")
+    private int consumerReadQueueCapacity;
+
+    @Value("${consumer.read.virtual-threads:false}")
+    private boolean consumerReadVirtualThreads;
+
+    @Value("${consumer.push.read-timeout-ms:5000}")
+    private long consumerPushReadTimeoutMs;
+
+    @Value("${consumer.push.heartbeat-ms:15000}")
+    private long consumerPushHeartbeatMs;
+
+    @Value("${consumer.fetch-max-bytes:67108864}")
+    private int consumerFetchMaxBytes;
+
+    @Value("${consumer.pool.max-instances:500}")
+    private int consumerPoolMaxInstances;
+
+    @Value("${consumer.pool.max-instances-per-group:100}")
+    private int consumerPoolMaxInstancesPerGroup;
+
+    @Value("${consumer.pool.max-buffered-bytes:4294967296}")
+    private long consumerPoolMaxBufferedBytes;
+
+    @Value("${consumer.instance-timeout-ms:300000}")
+    private long consumerInstanceTimeoutMs;
+
+    @Value("${consumer.close.threads:4}")
+    private int consumerCloseThreads;
+
+    @Value("${consumer.hibernate.idle-ms:0}")
+    private long consumerHibernateIdleMs;
+
+    @Value("${consumer.hibernate.commit:false}")
+    private boolean consumerHibernateCommit;
+
+    @Value("${consumer.max-poll-records:30}")
+    private int consumerMaxPollRecords;
+
+    @Value("${consumer.prefetch.enable:false}")
+    private boolean consumerPrefetchEnable;
+
+    @Value("${consumer.prefetch.max-records:1000}")
+    private int consumerPrefetchMaxRecords;
+
+    @Value("${consumer.prefetch.max-bytes:16777216}")
+    private long consumerPrefetchMaxBytes;
+
+    @Value("${consumer.prefetch.interval-ms:10}")
+    private long consumerPrefetchIntervalMs;
+
+    @Value("${consumer.prefetch.threads:2}")
+    private int consumerPrefetchThreads;
 }
 
@@ -0,0 +1,61 @@
+package io.spitha.felice.common.config;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * <pre>
+ * {@code kafka-rest.yml} 프로듀서 프로파일 설정값 목록
+ * - 프로파일마다 별도의 프로듀서 인스턴스를 사용하며, 요청 헤더 또는 토픽별 매핑으로 선택
+ * 
+ * producer:
+ *   profiles:
+ *     low-latency:
+ *       acks: 1
+ *       linger-ms: 0
+ *     bulk-throughput:
+ *       acks: all
+ *       linger-ms: 50
+ *       batch-size: 1048576
+ *       compression-type: lz4
+ *   topic-profiles:
+ *     "[orders.v1]": low-latency
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "producer")
+public class ProducerProfileConfig {
+
+    /* key = 프로파일명, value = 프로파일 설정값 */
+    private Map<String, ProducerProfile> profiles = new LinkedHashMap<>();
+
+    /* key = 토픽명, value = 프로파일명 (요청 헤더가 없는 경우 적용) */
+    private Map<String, String> topicProfiles = new HashMap<>();
+
+    /**
+     * 프로듀서 프로파일 설정값 (값이 없는 항목은 기본 프로듀서 설정 적용)
+     */
+    @Getter
+    @Setter
+    public static class ProducerProfile {
+
+        private String acks;                              // acks
+        private Integer lingerMs;                         // linger.ms
+        private Integer batchSize;                        // batch.size
+        private String compressionType;                   // compression.type
+        private Integer maxInFlightRequestsPerConnection; // max.in.flight.requests.per.connection
+        private Integer poolSize;                         // 프로파일의 프로듀서 수 (없는 경우, producer.pool.size)
+
+        // 그 외 프로듀서 설정값 (key = 카프카 프로듀서 설정명)
+        private Map<String, String> configs = new HashMap<>();
+    }
+}
@@ -4,9 +4,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 
-import org.apache.avro.Schema;
-import org.apache.avro.generic.GenericDatumReader;
-import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.BinaryDecoder;
 import org.apache.avro.io.DecoderFactory;
 import org.apache.kafka.common.errors.SerializationException;
 
@@ -18,12 +16,17 @@ import com.google.protobuf.Descriptors.DescriptorValidationException;
 import com.google.protobuf.DynamicMessage;
 import com.google.protobuf.InvalidProtocolBufferException;
 
+import proxy.common.cache.AvroSchemaRegistry;
+import proxy.common.cache.JsonSchemaValidatorRegistry;
+import proxy.common.cache.ProtobufDescriptorRegistry;
 import proxy.common.util.AvroSchemaUtil;
+import proxy.common.util.AvroSchemaUtil.CompiledSchema;
 import proxy.common.util.BeanUtil;
 import proxy.common.util.JacksonMapper;
 import proxy.common.util.JsonSchemaUtil;
 import proxy.common.util.ProtobufSchemaUtil;
 import proxy.common.util.SchemaUtil;
+import proxy.common.validator.JsonSchemaValidator;
 import proxy.infra.schemaregistry.CachedSchemaManager;
 
 /**
@@ -31,10 +34,17 @@ import proxy.infra.schemaregistry.CachedSchemaManager;
  */
 public class DeserializationContext {
 
-    private final CachedSchemaManager cachedSchemaManager;
+    // 레코드마다 bean을 조회하지 않도록, 처음 사용할 때 한 번만 조회
+    private static volatile CachedSchemaManager cachedSchemaManager;
+    private static volatile AvroSchemaRegistry avroSchemaRegistry;
+    private static volatile ProtobufDescriptorRegistry protobufDescriptorRegistry;
+    private static volatile JsonSchemaValidatorRegistry jsonSchemaValidatorRegistry;
 
-    private final ObjectMapper jsonMapper = JacksonMapper.INSTANCE;
-    private final DecoderFactory decoderFactory = DecoderFactory.get();
+    private static final ObjectMapper jsonMapper = JacksonMapper.INSTANCE;
+    private static final DecoderFactory decoderFactory = DecoderFactory.get();
+
+    // 스레드별로 재사용하는 avro binary decoder
+    private static final ThreadLocal<BinaryDecoder> binaryDecoder = new ThreadLocal<>();
 
     protected static final byte MAGIC_BYTE = 0x0;
     protected static final int idSize = 4;
@@ -51,8 +61,28 @@ public class DeserializationContext {
         this.payload = payload;
         this.buffer = getByteBuffer(payload); // discard the magic byte
         this.schemaId = buffer.getInt();      // get schemaId
+    }
 
-        this.cachedSchemaManager = (CachedSchemaManager) BeanUtil.getBean("cachedSchemaManager");
+    /**
+     * 스키마 캐시 관리 bean 반환
+     * @return
+     */
+    private static CachedSchemaManager getCachedSchemaManager() {
+        if (cachedSchemaManager == null) {
+            cachedSchemaManager = (CachedSchemaManager) BeanUtil.getBean("cachedSchemaManager");
+        }
+        return cachedSchemaManager;
+    }
+
+    /**
+     * avro 스키마 저장소 bean 반환
+     * @return
+     */
+    private static AvroSchemaRegistry getAvroSchemaRegistry() {
+        if (avroSchemaRegistry == null) {
+            avroSchemaRegistry = (AvroSchemaRegistry) BeanUtil.getBean("avroSchemaRegistry");
+        }
+        return avroSchemaRegistry;
     }
 
     /**
@@ -68,6 +98,28 @@ public class DeserializationContext {
         return buffer;
     }
 
+    /**
+     * protobuf 디스크립터 저장소 bean 반환
+     * @return
+     */
+    private static ProtobufDescriptorRegistry getProtobufDescriptorRegistry() {
+        if (protobufDescriptorRegistry == null) {
+            protobufDescriptorRegistry = (ProtobufDescriptorRegistry) BeanUtil.getBean("protobufDescriptorRegistry");
+        }
+        return protobufDescriptorRegistry;
+    }
+
+    /**
+     * json 스키마 검증기 저장소 bean 반환
+     * @return
+     */
+    private static JsonSchemaValidatorRegistry getJsonSchemaValidatorRegistry() {
+        if (jsonSchemaValidatorRegistry == null) {
+            jsonSchemaValidatorRegistry = (JsonSchemaValidatorRegistry) BeanUtil.getBean("jsonSchemaValidatorRegistry");
+        }
+        return jsonSchemaValidatorRegistry;
+    }
+
     /**
      * payload의 schemaId로 스키마(내용) 조회
      * @return
@@ -78,19 +130,46 @@ public class DeserializationContext {
             String subject = SchemaUtil.getSubjectName(topic, isKey);
 
             // 스키마ID로 스키마(내용) 조회
-            return this.cachedSchemaManager.getRawSchemaById(subject, schemaId);
+            return getCachedSchemaManager().getRawSchemaById(subject, schemaId);
 
         } catch (IOException e) {
             throw new SerializationException("Error retrieving Avro " + SchemaUtil.getSchemaType(isKey) + " schema for id " + schemaId, e);
         }
     }
 
+    /**
+     * <pre>
+     * Read Avro content with Avro Schema
+     * - payload의 schemaId로 파싱된 스키마, reader를 캐시에서 조회하며, 없는 경우에만 스키마 레지스트리에서 조회 후 파싱
+     * </pre>
+     * @return
+     */
+    public Object readAvro() {
+        CompiledSchema compiled;
+        try {
+            compiled = getAvroSchemaRegistry().getCompiledSchema(schemaId, this::getRawSchemaFromRegistry);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Error parsing Avro schema for schemaId " + schemaId, e);
+        }
+
+        return readAvro(compiled);
+    }
+
     /**
      * Read Avro content with Avro Schema
      * @param rawSchema
      * @return
      */
     public Object readAvro(String rawSchema) {
+        return readAvro(AvroSchemaUtil.compile(rawSchema));
+    }
+
+    /**
+     * Read Avro content with Avro Schema
+     * @param compiled // 파싱된 avro 스키마, reader
+     * @return
+     */
+    private Object readAvro(CompiledSchema compiled) {
         try {
             // 1. buffer에서 avro content 읽어옴.
             // get avro content length
@@ -99,19 +178,17 @@ public class DeserializationContext {
             // get start position of avro content
             int start = buffer.position() + buffer.arrayOffset();
 
-            // get avro schema
-            Schema avroSchema = AvroSchemaUtil.toAvroSchema(rawSchema);
-
-            // reader 생성
-            DatumReader<Object> reader = new GenericDatumReader<>(avroSchema);
+            // 스레드별 decoder 재사용
+            BinaryDecoder decoder = decoderFactory.binaryDecoder(buffer.array(), start, length, binaryDecoder.get());
+            binaryDecoder.set(decoder);
 
             // get avro content
-            Object result = reader.read(null, decoderFactory.binaryDecoder(buffer.array(), start, length, null)); // byte[] -> Object
+            Object result = compiled.getReader().read(null, decoder); // byte[] -> Object
 
             // JsonNode로 형변환 가능한 경우
             if (result instanceof JsonNode) {
                 // 2. convert JsonNode -> Object
-                result = AvroSchemaUtil.toObject(rawSchema, (JsonNode) result);
+                result = AvroSchemaUtil.toObject(compiled, (JsonNode) result);
             }
 
             // 3. avro content 반환 (Object)
@@ -123,6 +200,33 @@ public class DeserializationContext {
         }
     }
 
+    /**
+     * <pre>
+     * Read Json content with Json Schema
+     * - payload의 schemaId로 검증기를 조회하며, 없는 경우에만 스키마 레지스트리에서 스키마(내용) 조회 후 컴파일
+     * </pre>
+     * @return
+     */
+    public Object readJsonSchema() {
+        JsonNode jsonNode = null;
+        try {
+            JsonSchemaValidator validator = getJsonSchemaValidatorRegistry().getValidator(schemaId, this::getRawSchemaFromRegistry);
+
+            // 1. buffer에서 json content 읽어옴.
+            int length = buffer.limit() - 1 - idSize;
+            int start = buffer.position() + buffer.arrayOffset();
+            jsonNode = jsonMapper.readValue(buffer.array(), start, length, JsonNode.class); // byte[] -> JsonNode
+
+            // 2. convert JsonNode -> Object
+            return JsonSchemaUtil.toObject(validator, jsonNode);
+
+        } catch (IOException e) {
+            throw new SerializationException("JSON " + jsonNode + " does not match schema for schemaId " + schemaId, e);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Error deserializing JSON message for schemaId " + schemaId, e);
+        }
+    }
+
     /**
      * Read Json content with Json Schema
      * @param rawSchema
@@ -155,12 +259,47 @@ public class DeserializationContext {
         }
     }
 
+    /**
+     * <pre>
+     * Read Protobuf content with Protobuf Schema
+     * - payload의 schemaId로 디스크립터를 조회하며, 없는 경우에만 스키마 레지스트리에서 스키마(내용) 조회 후 생성
+     * </pre>
+     * @return
+     */
+    public Object readProtobuf() {
+        Descriptor descriptor;
+        try {
+            descriptor = getProtobufDescriptorRegistry().getDescriptor(schemaId, this::getRawSchemaFromRegistry);
+        } catch (DescriptorValidationException e) {
+            throw new SerializationException("Protobuf descriptor does not match schema for schemaId " + schemaId, e);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Error building Protobuf descriptor for schemaId " + schemaId, e);
+        }
+
+        return readProtobuf(descriptor);
+    }
+
     /**
      * Read Protobuf content with Protobuf Schema
      * @param rawSchema
      * @return
      */
     public Object readProtobuf(String rawSchema) {
+        try {
+            return readProtobuf(ProtobufSchemaUtil.getDescriptor(rawSchema));
+        } catch (DescriptorValidationException e) {
+            throw new SerializationException("Protobuf descriptor does not match schema " + rawSchema, e);
+        } catch (IOException e) {
+            throw new SerializationException("Error deserializing Protobuf message for schemaId " + schemaId, e);
+        }
+    }
+
+    /**
+     * Read Protobuf content with Protobuf descriptor
+     * @param descriptor // protobuf 디스크립터
+     * @return
+     */
+    private Object readProtobuf(Descriptor descriptor) {
         Object result;
         try {
             // 1. buffer에서 protobuf content 읽어옴.
@@ -170,8 +309,6 @@ public class DeserializationContext {
             // get start position of protobuf content
             int start = buffer.position() + buffer.arrayOffset();
 
-            // get protobuf descriptor from raw schema
-            Descriptor descriptor = ProtobufSchemaUtil.getDescriptor(rawSchema);
             if (descriptor == null) {
                 throw new SerializationException("Could not find descriptor with schemaId " + schemaId);
             }
@@ -183,8 +320,8 @@ public class DeserializationContext {
 
             // 3. protobuf content 반환 (Object)
             return result;
-        } catch (InvalidProtocolBufferException | DescriptorValidationException e) {
-            throw new SerializationException("Protobuf descriptor does not match schema " + rawSchema, e);
+        } catch (InvalidProtocolBufferException e) {
+            throw new SerializationException("Protobuf descriptor does not match schema for schemaId " + schemaId, e);
         } catch (IOException | RuntimeException e) {
             throw new SerializationException("Error deserializing Protobuf message for schemaId " + schemaId, e);
         }
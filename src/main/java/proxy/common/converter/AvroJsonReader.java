@@ -0,0 +1,320 @@
+package proxy.common.converter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.util.Utf8;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * <pre>
+ * {@link JsonNode} -> Avro 데이터 변환기
+ * - JsonNode를 JSON 문자열로 출력한 후 Avro JsonDecoder, GenericDatumReader로 읽은 결과와 동일한 데이터를 직접 생성
+ * - 스키마 구조는 한 번만 해석하여 타입별 변환 함수로 컴파일하고, 레코드마다 재사용
+ * - 변환 규칙 (JsonDecoder와 동일)
+ *   . record       : 스키마의 모든 필드(또는 alias)가 있어야 하며, 스키마에 없는 필드는 허용하지 않음 (기본값 미적용)
+ *   . union        : null 또는 {"타입명": 값}
+ *   . bytes, fixed : ISO-8859-1 문자열
+ *   . float, double: 숫자 또는 "NaN", "Infinity", "-Infinity"
+ * - 스키마와 맞지 않는 경우, {@link AvroTypeException} 발생
+ * </pre>
+ */
+public final class AvroJsonReader {
+
+    // 최상위 스키마 변환 함수
+    private final Reader root;
+
+    private AvroJsonReader(Schema schema) {
+        this.root = compile(schema, new IdentityHashMap<>());
+    }
+
+    /**
+     * 스키마 변환기 생성
+     * @param schema // avro 스키마
+     * @return
+     */
+    public static AvroJsonReader forSchema(Schema schema) {
+        return new AvroJsonReader(schema);
+    }
+
+    /**
+     * JsonNode -> Avro 데이터 변환
+     * @param node // avro JSON 인코딩 형식의 데이터
+     * @return
+     * @throws AvroTypeException 스키마와 맞지 않는 경우
+     */
+    public Object read(JsonNode node) {
+        return root.read(node);
+    }
+
+    /**
+     * 스키마 타입별 변환 함수 생성
+     * @param schema  // avro 스키마
+     * @param records // 컴파일 중인 레코드 (재귀 스키마 처리)
+     * @return
+     */
+    private static Reader compile(Schema schema, Map<Schema, RecordReader> records) {
+        switch (schema.getType()) {
+            case RECORD:
+                // 자기 자신을 참조하는 레코드인 경우, 컴파일 중인 변환 함수 재사용
+                RecordReader compiled = records.get(schema);
+                if (compiled != null) return compiled;
+
+                RecordReader record = new RecordReader(schema);
+                records.put(schema, record);
+                record.compile(records);
+                return record;
+            case UNION:
+                return new UnionReader(schema, records);
+            case ARRAY:
+                Reader element = compile(schema.getElementType(), records);
+                return node -> {
+                    if (!node.isArray()) throw error("array-start", node);
+                    GenericData.Array<Object> array = new GenericData.Array<>(node.size(), schema);
+                    for (JsonNode item : node) {
+                        array.add(element.read(item));
+                    }
+                    return array;
+                };
+            case MAP:
+                Reader value = compile(schema.getValueType(), records);
+                return node -> {
+                    if (!node.isObject()) throw error("map-start", node);
+                    Map<Object, Object> map = new HashMap<>(node.size());
+                    Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                    while (fields.hasNext()) {
+                        Map.Entry<String, JsonNode> field = fields.next();
+                        map.put(new Utf8(field.getKey()), value.read(field.getValue()));
+                    }
+                    return map;
+                };
+            case ENUM:
+                return node -> {
+                    if (!node.isTextual()) throw error("enum", node);
+                    if (!schema.hasEnumSymbol(node.textValue())) {
+                        throw new AvroTypeException("Unknown symbol in enum " + node.textValue());
+                    }
+                    return new GenericData.EnumSymbol(schema, node.textValue());
+                };
+            case FIXED:
+                return node -> {
+                    if (!node.isTextual()) throw error("fixed", node);
+                    byte[] bytes = node.textValue().getBytes(StandardCharsets.ISO_8859_1);
+                    if (bytes.length != schema.getFixedSize()) {
+                        throw new AvroTypeException("Expected fixed length " + schema.getFixedSize() + ", but got" + bytes.length);
+                    }
+                    return new GenericData.Fixed(schema, bytes);
+                };
+            case STRING:
+                // avro.java.string 속성이 String 인 경우 String, 그 외 Utf8 (GenericDatumReader와 동일)
+                boolean javaString = GenericData.StringType.String.name().equals(schema.getProp(GenericData.STRING_PROP));
+                return node -> {
+                    if (!node.isTextual()) throw error("string", node);
+                    return javaString ? node.textValue() : new Utf8(node.textValue());
+                };
+            case BYTES:
+                return node -> {
+                    if (!node.isTextual()) throw error("bytes", node);
+                    return ByteBuffer.wrap(node.textValue().getBytes(StandardCharsets.ISO_8859_1));
+                };
+            case INT:
+                return node -> {
+                    if (!node.isNumber() || !node.canConvertToInt()) throw error("int", node);
+                    return node.intValue();
+                };
+            case LONG:
+                return node -> {
+                    if (!node.isNumber() || !node.canConvertToLong()) throw error("long", node);
+                    return node.longValue();
+                };
+            case FLOAT:
+                return node -> {
+                    if (node.isNumber()) return node.floatValue();
+                    if (node.isTextual()) return (float) toNonFinite(node, "float");
+                    throw error("float", node);
+                };
+            case DOUBLE:
+                return node -> {
+                    if (node.isNumber()) return node.doubleValue();
+                    if (node.isTextual()) return toNonFinite(node, "double");
+                    throw error("double", node);
+                };
+            case BOOLEAN:
+                return node -> {
+                    if (!node.isBoolean()) throw error("boolean", node);
+                    return node.booleanValue();
+                };
+            case NULL:
+                return node -> {
+                    if (!node.isNull()) throw error("null", node);
+                    return null;
+                };
+            default:
+                throw new AvroTypeException("Unknown type: " + schema);
+        }
+    }
+
+    /**
+     * NaN, Infinity, -Infinity 문자열 -> double
+     * @param node
+     * @param type
+     * @return
+     */
+    private static double toNonFinite(JsonNode node, String type) {
+        switch (node.textValue()) {
+            case "NaN":
+                return Double.NaN;
+            case "Infinity":
+                return Double.POSITIVE_INFINITY;
+            case "-Infinity":
+                return Double.NEGATIVE_INFINITY;
+            default:
+                throw error(type, node);
+        }
+    }
+
+    /**
+     * 타입 불일치 예외 (JsonDecoder와 같은 형식의 메시지)
+     * @param type // 기대한 타입
+     * @param node // 실제 값
+     * @return
+     */
+    private static AvroTypeException error(String type, JsonNode node) {
+        return new AvroTypeException("Expected " + type + ". Got " + node.asToken());
+    }
+
+    /**
+     * 스키마 타입별 변환 함수
+     */
+    @FunctionalInterface
+    private interface Reader {
+        Object read(JsonNode node);
+    }
+
+    /**
+     * record 변환 함수 (필드명 또는 alias로 조회)
+     */
+    private static final class RecordReader implements Reader {
+
+        private final Schema schema;
+        private final String[] names;
+        private final String[][] aliases;
+        private final Reader[] fields;
+        // 필드명, alias 목록
+        private final Set<String> known = new HashSet<>();
+
+        private RecordReader(Schema schema) {
+            int size = schema.getFields().size();
+            this.schema = schema;
+            this.names = new String[size];
+            this.aliases = new String[size][];
+            this.fields = new Reader[size];
+        }
+
+        private void compile(Map<Schema, RecordReader> records) {
+            for (Schema.Field field : schema.getFields()) {
+                names[field.pos()] = field.name();
+                aliases[field.pos()] = field.aliases().toArray(new String[0]);
+                known.add(field.name());
+                known.addAll(field.aliases());
+                fields[field.pos()] = AvroJsonReader.compile(field.schema(), records);
+            }
+        }
+
+        @Override
+        public Object read(JsonNode node) {
+            if (!node.isObject()) throw error("record-start", node);
+
+            GenericData.Record record = new GenericData.Record(schema);
+            int matched = 0;
+            for (int i = 0; i < fields.length; i++) {
+                JsonNode value = find(node, i);
+                if (value == null) {
+                    throw new AvroTypeException("Expected field name not found: " + names[i]);
+                }
+                record.put(i, fields[i].read(value));
+                matched++;
+            }
+
+            // 스키마에 없는 필드가 있는 경우
+            if (node.size() > matched) {
+                throw new AvroTypeException("Unknown fields: " + unknownFields(node));
+            }
+
+            return record;
+        }
+
+        private JsonNode find(JsonNode node, int index) {
+            JsonNode value = node.get(names[index]);
+            if (value != null) return value;
+
+            for (String alias : aliases[index]) {
+                value = node.get(alias);
+                if (value != null) return value;
+            }
+            return null;
+        }
+
+        private List<String> unknownFields(JsonNode node) {
+            List<String> unknown = new ArrayList<>();
+            Iterator<String> fieldNames = node.fieldNames();
+            while (fieldNames.hasNext()) {
+                String fieldName = fieldNames.next();
+                if (!known.contains(fieldName)) unknown.add(fieldName);
+            }
+            return unknown;
+        }
+    }
+
+    /**
+     * union 변환 함수 (null 또는 타입명으로 감싼 값)
+     */
+    private static final class UnionReader implements Reader {
+
+        private final Map<String, Reader> branches = new HashMap<>();
+
+        private UnionReader(Schema schema, Map<Schema, RecordReader> records) {
+            for (Schema branch : schema.getTypes()) {
+                branches.put(branch.getFullName(), AvroJsonReader.compile(branch, records));
+            }
+        }
+
+        @Override
+        public Object read(JsonNode node) {
+            String label;
+            JsonNode value;
+
+            if (node.isNull()) {
+                label = Schema.Type.NULL.getName();
+                value = node;
+            } else if (node.isObject() && node.size() > 0) {
+                Map.Entry<String, JsonNode> entry = node.fields().next();
+                label = entry.getKey();
+                value = entry.getValue();
+            } else {
+                throw error("start-union", node);
+            }
+
+            Reader branch = branches.get(label);
+            if (branch == null) {
+                throw new AvroTypeException("Unknown union branch " + label);
+            }
+
+            Object result = branch.read(value);
+            if (node.size() > 1) throw error("union-end", node);
+            return result;
+        }
+    }
+}
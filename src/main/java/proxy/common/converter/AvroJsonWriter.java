@@ -0,0 +1,225 @@
+package proxy.common.converter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.generic.IndexedRecord;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * <pre>
+ * Avro 데이터 -> {@link JsonNode} 변환기
+ * - Avro JsonEncoder로 JSON 문자열을 만든 후 Jackson으로 다시 파싱한 결과와 동일한 JsonNode를 직접 생성
+ * - 스키마 구조는 한 번만 해석하여 타입별 변환 함수로 컴파일하고, 스키마 인스턴스별로 캐시하여 레코드마다 재사용
+ * - 변환 규칙 (JsonEncoder와 동일)
+ *   . bytes, fixed : ISO-8859-1 문자열
+ *   . enum         : 심볼 문자열
+ *   . union        : null 인 경우 null, 그 외 {"타입명": 값}
+ *   . float, double: NaN, Infinity 는 문자열
+ * </pre>
+ */
+public final class AvroJsonWriter {
+
+    private static final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+
+    /* key = avro 스키마 (동일 인스턴스 기준, 참조가 없어지면 제거), value = 컴파일된 변환기 */
+    private static final Cache<Schema, AvroJsonWriter> writers = Caffeine.newBuilder()
+        .weakKeys()
+        .build();
+
+    // 최상위 스키마 변환 함수
+    private final Writer root;
+
+    private AvroJsonWriter(Schema schema) {
+        this.root = compile(schema, new IdentityHashMap<>());
+    }
+
+    /**
+     * 스키마별 변환기 조회 (없는 경우, 컴파일)
+     * @param schema // avro 스키마
+     * @return
+     */
+    public static AvroJsonWriter forSchema(Schema schema) {
+        return writers.get(schema, AvroJsonWriter::new);
+    }
+
+    /**
+     * Avro 데이터 -> JsonNode 변환
+     * @param datum // 스키마에 맞는 avro 데이터
+     * @return
+     */
+    public JsonNode write(Object datum) {
+        return root.write(datum);
+    }
+
+    /**
+     * 스키마 타입별 변환 함수 생성
+     * @param schema  // avro 스키마
+     * @param records // 컴파일 중인 레코드 (재귀 스키마 처리)
+     * @return
+     */
+    private static Writer compile(Schema schema, Map<Schema, RecordWriter> records) {
+        switch (schema.getType()) {
+            case RECORD:
+                // 자기 자신을 참조하는 레코드인 경우, 컴파일 중인 변환 함수 재사용
+                RecordWriter compiled = records.get(schema);
+                if (compiled != null) return compiled;
+
+                RecordWriter record = new RecordWriter(schema.getFields().size());
+                records.put(schema, record);
+                record.compile(schema.getFields(), records);
+                return record;
+            case UNION:
+                return new UnionWriter(schema, records);
+            case ARRAY:
+                Writer element = compile(schema.getElementType(), records);
+                return datum -> {
+                    ArrayNode array = nodeFactory.arrayNode();
+                    for (Object item : (Collection<?>) datum) {
+                        array.add(element.write(item));
+                    }
+                    return array;
+                };
+            case MAP:
+                Writer value = compile(schema.getValueType(), records);
+                return datum -> {
+                    ObjectNode object = nodeFactory.objectNode();
+                    for (Map.Entry<?, ?> entry : ((Map<?, ?>) datum).entrySet()) {
+                        object.set(entry.getKey().toString(), value.write(entry.getValue()));
+                    }
+                    return object;
+                };
+            case ENUM:
+            case STRING:
+                return datum -> TextNode.valueOf(datum.toString());
+            case FIXED:
+                return datum -> {
+                    byte[] bytes = ((GenericFixed) datum).bytes();
+                    return TextNode.valueOf(new String(bytes, 0, bytes.length, StandardCharsets.ISO_8859_1));
+                };
+            case BYTES:
+                return datum -> TextNode.valueOf(toLatin1((ByteBuffer) datum));
+            case INT:
+                return datum -> IntNode.valueOf(((Number) datum).intValue());
+            case LONG:
+                return datum -> JsonNumbers.of(((Number) datum).longValue());
+            case FLOAT:
+                return datum -> JsonNumbers.of(((Number) datum).floatValue());
+            case DOUBLE:
+                return datum -> JsonNumbers.of(((Number) datum).doubleValue());
+            case BOOLEAN:
+                return datum -> BooleanNode.valueOf((Boolean) datum);
+            case NULL:
+                return datum -> NullNode.getInstance();
+            default:
+                throw new AvroRuntimeException("Unknown type: " + schema);
+        }
+    }
+
+    /**
+     * bytes -> ISO-8859-1 문자열 (버퍼 위치는 변경하지 않음)
+     * @param buffer
+     * @return
+     */
+    private static String toLatin1(ByteBuffer buffer) {
+        int length = buffer.remaining();
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.ISO_8859_1);
+        }
+
+        byte[] bytes = new byte[length];
+        buffer.duplicate().get(bytes, 0, length);
+        return new String(bytes, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 스키마 타입별 변환 함수
+     */
+    @FunctionalInterface
+    private interface Writer {
+        JsonNode write(Object datum);
+    }
+
+    /**
+     * record 변환 함수 (스키마 필드 순서대로 출력)
+     */
+    private static final class RecordWriter implements Writer {
+
+        private final String[] names;
+        private final Writer[] fields;
+
+        private RecordWriter(int size) {
+            this.names = new String[size];
+            this.fields = new Writer[size];
+        }
+
+        private void compile(List<Schema.Field> schemaFields, Map<Schema, RecordWriter> records) {
+            for (Schema.Field field : schemaFields) {
+                names[field.pos()] = field.name();
+                fields[field.pos()] = AvroJsonWriter.compile(field.schema(), records);
+            }
+        }
+
+        @Override
+        public JsonNode write(Object datum) {
+            IndexedRecord record = (IndexedRecord) datum;
+            ObjectNode object = nodeFactory.objectNode();
+            for (int i = 0; i < fields.length; i++) {
+                object.set(names[i], fields[i].write(record.get(i)));
+            }
+            return object;
+        }
+    }
+
+    /**
+     * union 변환 함수 (null 이외의 타입은 타입명으로 감싸서 출력)
+     */
+    private static final class UnionWriter implements Writer {
+
+        private final Schema schema;
+        private final String[] labels;
+        private final Writer[] branches;
+
+        private UnionWriter(Schema schema, Map<Schema, RecordWriter> records) {
+            List<Schema> types = schema.getTypes();
+
+            this.schema = schema;
+            this.labels = new String[types.size()];
+            this.branches = new Writer[types.size()];
+
+            for (int i = 0; i < types.size(); i++) {
+                Schema branch = types.get(i);
+                labels[i] = branch.getType() == Schema.Type.NULL ? null : branch.getFullName();
+                branches[i] = AvroJsonWriter.compile(branch, records);
+            }
+        }
+
+        @Override
+        public JsonNode write(Object datum) {
+            int index = GenericData.get().resolveUnion(schema, datum);
+            if (labels[index] == null) return NullNode.getInstance();
+
+            ObjectNode object = nodeFactory.objectNode();
+            object.set(labels[index], branches[index].write(datum));
+            return object;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package proxy.common.converter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+/**
+ * <pre>
+ * 숫자 -> {@link JsonNode} 변환
+ * - JSON 문자열로 출력한 후 Jackson으로 다시 파싱한 결과와 동일한 노드 타입 생성
+ * </pre>
+ */
+final class JsonNumbers {
+
+    private JsonNumbers() {
+    }
+
+    /**
+     * long 변환 (int 범위인 경우 IntNode)
+     * @param value
+     * @return
+     */
+    static JsonNode of(long value) {
+        return value == (int) value ? IntNode.valueOf((int) value) : LongNode.valueOf(value);
+    }
+
+    /**
+     * float 변환 (Float.toString 으로 출력한 문자열을 double로 파싱한 값, NaN/Infinity 는 문자열)
+     * @param value
+     * @return
+     */
+    static JsonNode of(float value) {
+        if (Float.isNaN(value) || Float.isInfinite(value)) return TextNode.valueOf(String.valueOf(value));
+        return DoubleNode.valueOf(Double.parseDouble(Float.toString(value)));
+    }
+
+    /**
+     * double 변환 (NaN/Infinity 는 문자열)
+     * @param value
+     * @return
+     */
+    static JsonNode of(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) return TextNode.valueOf(String.valueOf(value));
+        return DoubleNode.valueOf(value);
+    }
+}
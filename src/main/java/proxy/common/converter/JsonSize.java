@@ -0,0 +1,53 @@
+package proxy.common.converter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * <pre>
+ * JsonNode 직렬화 크기 계산
+ * - 공백 없는 UTF-8 JSON으로 직렬화했을 때의 바이트 수를 바이트 배열을 만들지 않고 계산
+ * </pre>
+ */
+public final class JsonSize {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+        .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+
+    private JsonSize() {
+    }
+
+    /**
+     * JsonNode 직렬화 크기 계산
+     * @param node
+     * @return
+     * @throws IOException
+     */
+    public static long of(JsonNode node) throws IOException {
+        CountingOutputStream output = new CountingOutputStream();
+        objectMapper.writeValue(output, node);
+        return output.count;
+    }
+
+    /**
+     * 출력하지 않고 바이트 수만 계산하는 스트림
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
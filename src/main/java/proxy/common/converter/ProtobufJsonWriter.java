@@ -0,0 +1,337 @@
+package proxy.common.converter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Message;
+import com.google.protobuf.util.JsonFormat;
+
+/**
+ * <pre>
+ * Protobuf 메시지 -> {@link JsonNode} 변환기
+ * - JsonFormat.printer().includingDefaultValueFields() 로 출력한 JSON 문자열을 Jackson으로 다시 파싱한 결과와 동일한 JsonNode를 직접 생성
+ * - 메시지 구조는 한 번만 해석하여 필드별 변환 함수로 컴파일하고, 디스크립터 인스턴스별로 캐시하여 메시지마다 재사용
+ * - 변환 규칙 (JsonFormat과 동일)
+ *   . 필드명은 json_name, 필드 번호 순서로 출력
+ *   . 설정된 확장 필드는 "[전체 이름]" 으로, 일반 필드와 함께 필드 번호 순서로 출력
+ *   . 설정되지 않은 메시지 필드, 선택되지 않은 oneof 필드는 제외하고, 그 외 필드는 기본값 포함
+ *   . int64, uint64 계열은 문자열, bytes 는 base64 문자열, enum 은 이름 (알 수 없는 값은 숫자)
+ *   . map 의 키는 문자열
+ *   . well-known type (Timestamp, Struct, Any 등) 은 JsonFormat으로 출력
+ * </pre>
+ */
+public final class ProtobufJsonWriter {
+
+    private static final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    // well-known type 출력용 (메시지 변환 시 생성하지 않고 재사용)
+    private static final JsonFormat.Printer printer = JsonFormat.printer()
+        .includingDefaultValueFields()
+        .omittingInsignificantWhitespace();
+
+    // JsonFormat에서 별도 형식으로 출력하는 well-known type
+    private static final Set<String> WELL_KNOWN_TYPES = Set.of(
+        "google.protobuf.Any",
+        "google.protobuf.Timestamp",
+        "google.protobuf.Duration",
+        "google.protobuf.FieldMask",
+        "google.protobuf.Struct",
+        "google.protobuf.Value",
+        "google.protobuf.ListValue",
+        "google.protobuf.DoubleValue",
+        "google.protobuf.FloatValue",
+        "google.protobuf.Int64Value",
+        "google.protobuf.UInt64Value",
+        "google.protobuf.Int32Value",
+        "google.protobuf.UInt32Value",
+        "google.protobuf.BoolValue",
+        "google.protobuf.StringValue",
+        "google.protobuf.BytesValue");
+
+    private static final String NULL_VALUE = "google.protobuf.NullValue";
+
+    /* key = 메시지 디스크립터 (동일 인스턴스 기준, 참조가 없어지면 제거), value = 컴파일된 변환기 */
+    private static final Cache<Descriptor, ProtobufJsonWriter> writers = Caffeine.newBuilder()
+        .weakKeys()
+        .build();
+
+    // 최상위 메시지 변환 함수
+    private final Writer root;
+
+    private ProtobufJsonWriter(Descriptor descriptor) {
+        this.root = compileMessage(descriptor, new IdentityHashMap<>());
+    }
+
+    /**
+     * 디스크립터별 변환기 조회 (없는 경우, 컴파일)
+     * @param descriptor // 메시지 디스크립터
+     * @return
+     */
+    public static ProtobufJsonWriter forDescriptor(Descriptor descriptor) {
+        return writers.get(descriptor, ProtobufJsonWriter::new);
+    }
+
+    /**
+     * 메시지 -> JsonNode 변환
+     * @param message // protobuf 메시지
+     * @return
+     * @throws IOException well-known type 출력에 실패한 경우
+     */
+    public JsonNode write(Message message) throws IOException {
+        return root.write(message);
+    }
+
+    /**
+     * 메시지 변환 함수 생성
+     * @param descriptor // 메시지 디스크립터
+     * @param messages   // 컴파일 중인 메시지 (재귀 메시지 처리)
+     * @return
+     */
+    private static Writer compileMessage(Descriptor descriptor, Map<Descriptor, MessageWriter> messages) {
+        // well-known type 인 경우, JsonFormat 출력 결과 사용
+        if (WELL_KNOWN_TYPES.contains(descriptor.getFullName())) {
+            return value -> objectMapper.readTree(printer.print((Message) value));
+        }
+
+        // 자기 자신을 참조하는 메시지인 경우, 컴파일 중인 변환 함수 재사용
+        MessageWriter compiled = messages.get(descriptor);
+        if (compiled != null) return compiled;
+
+        MessageWriter message = new MessageWriter();
+        messages.put(descriptor, message);
+        message.compile(descriptor, messages);
+        return message;
+    }
+
+    /**
+     * 필드 값 변환 함수 생성 (repeated, map 포함)
+     * @param field    // 필드 디스크립터
+     * @param messages // 컴파일 중인 메시지
+     * @return
+     */
+    private static Writer compileField(FieldDescriptor field, Map<Descriptor, MessageWriter> messages) {
+        // map 필드: 키는 항상 문자열
+        if (field.isMapField()) {
+            FieldDescriptor keyField = field.getMessageType().findFieldByNumber(1);
+            FieldDescriptor valueField = field.getMessageType().findFieldByNumber(2);
+            Writer valueWriter = compileValue(valueField, messages);
+
+            return value -> {
+                ObjectNode object = nodeFactory.objectNode();
+                for (Object element : (List<?>) value) {
+                    Message entry = (Message) element;
+                    object.set(toMapKey(keyField, entry.getField(keyField)), valueWriter.write(entry.getField(valueField)));
+                }
+                return object;
+            };
+        }
+
+        Writer valueWriter = compileValue(field, messages);
+
+        // repeated 필드
+        if (field.isRepeated()) {
+            return value -> {
+                ArrayNode array = nodeFactory.arrayNode();
+                for (Object element : (List<?>) value) {
+                    array.add(valueWriter.write(element));
+                }
+                return array;
+            };
+        }
+
+        return valueWriter;
+    }
+
+    /**
+     * 단일 값 변환 함수 생성
+     * @param field    // 필드 디스크립터
+     * @param messages // 컴파일 중인 메시지
+     * @return
+     */
+    private static Writer compileValue(FieldDescriptor field, Map<Descriptor, MessageWriter> messages) {
+        switch (field.getType()) {
+            case INT32:
+            case SINT32:
+            case SFIXED32:
+                return value -> IntNode.valueOf((Integer) value);
+            case INT64:
+            case SINT64:
+            case SFIXED64:
+                return value -> TextNode.valueOf(value.toString());
+            case UINT32:
+            case FIXED32:
+                return value -> JsonNumbers.of(Integer.toUnsignedLong((Integer) value));
+            case UINT64:
+            case FIXED64:
+                return value -> TextNode.valueOf(Long.toUnsignedString((Long) value));
+            case FLOAT:
+                return value -> JsonNumbers.of(((Float) value).floatValue());
+            case DOUBLE:
+                return value -> JsonNumbers.of(((Double) value).doubleValue());
+            case BOOL:
+                return value -> BooleanNode.valueOf((Boolean) value);
+            case STRING:
+                return value -> TextNode.valueOf((String) value);
+            case BYTES:
+                return value -> TextNode.valueOf(Base64.getEncoder().encodeToString(((ByteString) value).toByteArray()));
+            case ENUM:
+                if (NULL_VALUE.equals(field.getEnumType().getFullName())) {
+                    return value -> NullNode.getInstance();
+                }
+                return value -> {
+                    EnumValueDescriptor enumValue = (EnumValueDescriptor) value;
+                    // 디스크립터에 없는 값인 경우, 숫자로 출력
+                    return enumValue.getIndex() == -1
+                        ? IntNode.valueOf(enumValue.getNumber())
+                        : TextNode.valueOf(enumValue.getName());
+                };
+            case MESSAGE:
+            case GROUP:
+            default:
+                return compileMessage(field.getMessageType(), messages);
+        }
+    }
+
+    /**
+     * map 키 -> 문자열
+     * @param keyField // 키 필드 디스크립터
+     * @param key      // 키 값
+     * @return
+     */
+    private static String toMapKey(FieldDescriptor keyField, Object key) {
+        switch (keyField.getType()) {
+            case UINT32:
+            case FIXED32:
+                return Integer.toUnsignedString((Integer) key);
+            case UINT64:
+            case FIXED64:
+                return Long.toUnsignedString((Long) key);
+            default:
+                return String.valueOf(key);
+        }
+    }
+
+    /**
+     * 값 변환 함수
+     */
+    @FunctionalInterface
+    private interface Writer {
+        JsonNode write(Object value) throws IOException;
+    }
+
+    /**
+     * 메시지 변환 함수 (필드 번호 순서로 출력)
+     */
+    private static final class MessageWriter implements Writer {
+
+        private FieldDescriptor[] fields;
+        private String[] names;
+        private boolean[] presenceOnly;
+        private Writer[] writers;
+
+        // 확장 필드 선언 여부
+        private boolean extendable;
+        /* key = 확장 필드 디스크립터, value = 변환 함수 (메시지에서 처음 발견될 때 컴파일) */
+        private final Map<FieldDescriptor, Writer> extensions = new ConcurrentHashMap<>();
+
+        private void compile(Descriptor descriptor, Map<Descriptor, MessageWriter> messages) {
+            List<FieldDescriptor> sorted = new ArrayList<>(descriptor.getFields());
+            sorted.sort(Comparator.comparingInt(FieldDescriptor::getNumber));
+
+            int size = sorted.size();
+            FieldDescriptor[] fields = new FieldDescriptor[size];
+            String[] names = new String[size];
+            boolean[] presenceOnly = new boolean[size];
+            Writer[] writers = new Writer[size];
+
+            for (int i = 0; i < size; i++) {
+                FieldDescriptor field = sorted.get(i);
+                fields[i] = field;
+                names[i] = field.getJsonName();
+                // 설정되지 않은 단일 메시지 필드, oneof 필드는 기본값을 출력하지 않음
+                presenceOnly[i] = field.isOptional()
+                    && (field.getJavaType() == FieldDescriptor.JavaType.MESSAGE || field.getContainingOneof() != null);
+                writers[i] = compileField(field, messages);
+            }
+
+            this.fields = fields;
+            this.names = names;
+            this.presenceOnly = presenceOnly;
+            this.writers = writers;
+            this.extendable = !descriptor.getExtensionRanges().isEmpty();
+        }
+
+        @Override
+        public JsonNode write(Object value) throws IOException {
+            Message message = (Message) value;
+            ObjectNode object = nodeFactory.objectNode();
+
+            // 설정된 확장 필드 (필드 번호 순서)
+            List<FieldDescriptor> setExtensions = extendable ? extensionsOf(message) : List.of();
+            int next = 0;
+
+            for (int i = 0; i < fields.length; i++) {
+                // 필드 번호가 더 작은 확장 필드 먼저 출력
+                while (next < setExtensions.size() && setExtensions.get(next).getNumber() < fields[i].getNumber()) {
+                    writeExtension(object, message, setExtensions.get(next++));
+                }
+
+                if (presenceOnly[i] && !message.hasField(fields[i])) continue;
+                object.set(names[i], writers[i].write(message.getField(fields[i])));
+            }
+            while (next < setExtensions.size()) {
+                writeExtension(object, message, setExtensions.get(next++));
+            }
+            return object;
+        }
+
+        /**
+         * 메시지에 설정된 확장 필드 목록 (필드 번호 순서)
+         * @param message
+         * @return
+         */
+        private static List<FieldDescriptor> extensionsOf(Message message) {
+            List<FieldDescriptor> setExtensions = new ArrayList<>();
+            for (FieldDescriptor field : message.getAllFields().keySet()) {
+                if (field.isExtension()) setExtensions.add(field);
+            }
+            setExtensions.sort(Comparator.comparingInt(FieldDescriptor::getNumber));
+            return setExtensions;
+        }
+
+        /**
+         * 확장 필드 출력 (필드명: "[전체 이름]")
+         * @param object  // 출력할 JSON 객체
+         * @param message // protobuf 메시지
+         * @param field   // 확장 필드 디스크립터
+         * @throws IOException
+         */
+        private void writeExtension(ObjectNode object, Message message, FieldDescriptor field) throws IOException {
+            Writer writer = extensions.computeIfAbsent(field, extension -> compileField(extension, new IdentityHashMap<>()));
+            object.set("[" + field.getFullName() + "]", writer.write(message.getField(field)));
+        }
+    }
+}
@@ -37,8 +37,8 @@ public class AvroDeserializer implements Deserializer<Object> {
             // payload 분리 (magic byte + schemaId + avro content)
             DeserializationContext context = new DeserializationContext(topic, isKey, payload);
             
-            // read avro content with avro schema
-            return context.readAvro(context.getRawSchemaFromRegistry());
+            // read avro content with avro schema (스키마ID별로 캐시된 스키마 사용)
+            return context.readAvro();
 
         } catch (Exception e) {
             throw new SerializationException("Error deserializing AVRO message", e);
@@ -38,8 +38,8 @@ public class JsonSchemaDeserializer<T> implements Deserializer<T> {
             // payload 분리 (magic byte + schemaId + json content)
             DeserializationContext context = new DeserializationContext(topic, isKey, payload);
             
-            // read json content with json schema
-            return (T) context.readJsonSchema(context.getRawSchemaFromRegistry());
+            // read json content with json schema (스키마ID별로 저장된 검증기 사용)
+            return (T) context.readJsonSchema();
 
         } catch (Exception e) {
             throw new SerializationException("Error deserializing JSONSCHEMA message", e);
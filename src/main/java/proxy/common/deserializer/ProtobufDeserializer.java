@@ -40,8 +40,8 @@ public class ProtobufDeserializer<T extends Message> implements Deserializer<T>
             // payload 분리 (magic byte + schemaId + protobuf content)
             DeserializationContext context = new DeserializationContext(topic, isKey, payload);
             
-            // read protobuf content with protobuf schema
-            return (T) context.readProtobuf(context.getRawSchemaFromRegistry());
+            // read protobuf content with protobuf schema (스키마ID별로 저장된 디스크립터 사용)
+            return (T) context.readProtobuf();
 
         } catch (Exception e) {
             throw new SerializationException("Error deserializing PROTOBUF message", e);
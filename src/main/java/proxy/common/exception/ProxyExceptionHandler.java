@@ -0,0 +1,44 @@
+package proxy.common.exception;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import proxy.api.response.ErrorResponse;
+import proxy.common.config.KafkaRestConfig;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link ProxyException} -> http 오류 응답 변환
+ */
+@RestControllerAdvice
+@Slf4j
+public class ProxyExceptionHandler {
+
+    @Autowired
+    private KafkaRestConfig kafkaRestConfig;
+
+    /**
+     * 프록시 에러에 정의된 http 상태, 에러 코드로 응답 (429, 503 응답 시, Retry-After 헤더 포함)
+     * @param e
+     * @return
+     */
+    @ExceptionHandler(ProxyException.class)
+    public ResponseEntity<ErrorResponse> handleProxyException(ProxyException e) {
+        HttpStatus status = e.getStatus() != null ? e.getStatus() : HttpStatus.INTERNAL_SERVER_ERROR;
+        String message = e.getDetailMessage() != null ? e.getDetailMessage() : e.getMessage();
+
+        log.debug("Proxy exception [{}] {}", e.getCode(), message);
+
+        if (status == HttpStatus.TOO_MANY_REQUESTS || status == HttpStatus.SERVICE_UNAVAILABLE) {
+            return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(kafkaRestConfig.getHttpRetryAfterSeconds()))
+                .body(new ErrorResponse(e.getCode(), message));
+        }
+
+        return ResponseEntity.status(status).body(new ErrorResponse(e.getCode(), message));
+    }
+}
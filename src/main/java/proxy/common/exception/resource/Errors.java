@@ -44,6 +44,11 @@ public enum Errors {
     // consumer exception
     PARTITION_NOT_FOUND(40401, "Partition not found"),
     CONSUMER_INSTANCE_NOT_FOUND(40402, "Consumer instance not found"),
+    PUSH_SUBSCRIPTION_NOT_FOUND(40403, "Push subscription not found for the consumer instance"),
+
+    // producer exception
+    PRODUCER_PROFILE_NOT_FOUND(40431, "Producer profile not found"),
+    PRODUCE_BATCH_NOT_FOUND(40432, "Produce batch not found or expired"),
 
     // schema registry exception
     SCHEMA_NOT_FOUND(40451, "Schema not found"),
@@ -62,6 +67,20 @@ public enum Errors {
     // consumer exception
     CONSUMER_ALREADY_EXISTS(40901, "Consumer with specified consumer ID already exists in the specified consumer group."),
 
+    // ##############################################################################
+    // 429:TOO_MANY_REQUESTS
+    // ##############################################################################
+    // consumer exception
+    CONSUMER_READ_TASKS_EXHAUSTED(42901, "Too many pending consumer read requests, retry later"),
+    // producer exception
+    PRODUCE_INFLIGHT_LIMIT_EXCEEDED(42902, "Too many in-flight produce requests, retry later"),
+
+    // ##############################################################################
+    // 503:SERVICE_UNAVAILABLE
+    // ##############################################################################
+    // producer exception
+    PRODUCER_UNAVAILABLE(50301, "Producer is recovering, retry later"),
+
     // ##############################################################################
     // 500:INTERNAL_SERVER_ERROR
     // ##############################################################################
@@ -126,6 +145,12 @@ public enum Errors {
             case 409:
                 status = HttpStatus.CONFLICT;
                 break;
+            case 429:
+                status = HttpStatus.TOO_MANY_REQUESTS;
+                break;
+            case 503:
+                status = HttpStatus.SERVICE_UNAVAILABLE;
+                break;
             default:
                 status = HttpStatus.INTERNAL_SERVER_ERROR;
                 break;
@@ -3,74 +3,103 @@ package proxy.common.serializer;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InterruptedIOException;
-import java.nio.ByteBuffer;
 
-import org.apache.avro.Schema;
-import org.apache.avro.generic.GenericDatumWriter;
 import org.apache.avro.io.BinaryEncoder;
 import org.apache.avro.io.EncoderFactory;
 import org.apache.kafka.common.errors.SerializationException;
 import org.apache.kafka.common.errors.TimeoutException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import proxy.common.util.AvroSchemaUtil;
+import proxy.common.cache.AvroSchemaRegistry;
+import proxy.common.util.AvroSchemaUtil.CompiledSchema;
 import proxy.infra.schemaregistry.result.RegisteredSchema;
 
+/**
+ * <pre>
+ * Avro 메시지 직렬화
+ * - 스키마ID별로 저장된 파싱된 스키마, writer 사용 (레코드마다 스키마를 파싱하지 않음)
+ * - 출력 버퍼와 encoder는 스레드별로 재사용
+ * </pre>
+ */
 @Component
 public class AvroSerializer {
     private final EncoderFactory encoderFactory = EncoderFactory.get();
 
+    @Autowired
+    private AvroSchemaRegistry avroSchemaRegistry;
+
     private static final byte MAGIC_BYTE = 0x0;
-    private static final int SCHEMA_ID_SIZE = 4;
+
+    // 스레드별로 유지할 최대 출력 버퍼 크기 (초과 시, 사용 후 버림)
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+    // 스레드별로 재사용하는 출력 버퍼, encoder
+    private static final ThreadLocal<ReusableOutputStream> outputs = ThreadLocal.withInitial(ReusableOutputStream::new);
+    private static final ThreadLocal<BinaryEncoder> encoders = new ThreadLocal<>();
 
     public byte[] serialize(RegisteredSchema schema, Object record) {
         if (record == null) return null;
 
-        // get avro schema
-        Schema avroSchema = AvroSchemaUtil.toAvroSchema(schema.getSchema());
+        return serialize(schema.getSchemaId(), avroSchemaRegistry.getCompiledSchema(schema.getSchemaId(), schema::getSchema), record);
+    }
 
-        try {
-            // 스키마ID 조회
-            int schemaId = schema.getSchemaId();
+    /**
+     * 파싱된 스키마로 직렬화
+     * @param schemaId // 스키마ID
+     * @param compiled // 파싱된 avro 스키마, writer
+     * @param record   // avro content
+     * @return
+     */
+    public byte[] serialize(int schemaId, CompiledSchema compiled, Object record) {
+        if (record == null) return null;
 
-            // output 생성
-            ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ReusableOutputStream output = outputs.get();
+        output.reset();
 
+        try {
             // 1. write magic byte :: deserialize 할 때, magic byte가 존재하는 경우에만 payload에서 schemaId 조회
             output.write(MAGIC_BYTE);
 
-            // 2. write schemaId
-            output.write(ByteBuffer.allocate(SCHEMA_ID_SIZE).putInt(schemaId).array());
+            // 2. write schemaId (big-endian)
+            output.write(schemaId >>> 24);
+            output.write(schemaId >>> 16);
+            output.write(schemaId >>> 8);
+            output.write(schemaId);
 
             // 3. write avro content
-            writeDatum(output, record, avroSchema);
+            BinaryEncoder encoder = encoderFactory.directBinaryEncoder(output, encoders.get());
+            encoders.set(encoder);
 
-            byte[] bytes = output.toByteArray();
-            output.close();
+            compiled.getWriter().write(record, encoder);
+            encoder.flush();
 
-            return bytes;
+            return output.toByteArray();
 
         } catch (InterruptedIOException e) {
             throw new TimeoutException("Error serializing Avro message", e);
         } catch (IOException | RuntimeException e) {
             // avro serialization can throw AvroRuntimeException, NullPointerException, ClassCastException, etc
             throw new SerializationException("Error serializing Avro message", e);
+        } finally {
+            // 큰 메시지로 늘어난 버퍼는 유지하지 않음 (직렬화 실패 시에도 버퍼는 늘어난 상태이므로 용량 기준)
+            if (output.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+                outputs.remove();
+            }
         }
     }
 
     /**
-     * Add Avro Content
-     * @param output // output stream
-     * @param record // avro content
-     * @param schema // avro schema
+     * 버퍼 용량을 조회할 수 있는 출력 버퍼
      */
-    private void writeDatum(ByteArrayOutputStream output, Object record, Schema schema) throws IOException {
-        // encoder, writer 생성
-        BinaryEncoder encoder = encoderFactory.directBinaryEncoder(output, null);
-        GenericDatumWriter<Object> writer = new GenericDatumWriter<>(schema);
-
-        // write avro content
-        writer.write(record, encoder);
-        encoder.flush();
+    private static class ReusableOutputStream extends ByteArrayOutputStream {
+
+        /**
+         * 할당된 버퍼 크기 (reset 후에도 줄어들지 않음)
+         * @return
+         */
+        private int capacity() {
+            return buf.length;
+        }
     }
 }
@@ -8,17 +8,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.github.fge.jsonschema.core.exceptions.ProcessingException;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors.Descriptor;
 import com.google.protobuf.Descriptors.DescriptorValidationException;
 import com.google.protobuf.Message;
 
+import proxy.common.cache.AvroSchemaRegistry;
+import proxy.common.cache.JsonSchemaValidatorRegistry;
+import proxy.common.cache.ProtobufDescriptorRegistry;
 import proxy.common.exception.ProxyException;
 import proxy.common.exception.resource.Errors;
 import proxy.common.format.EmbeddedFormat;
 import proxy.common.util.AvroSchemaUtil;
+import proxy.common.util.AvroSchemaUtil.CompiledSchema;
 import proxy.common.util.JsonSchemaUtil;
 import proxy.common.util.ProtobufSchemaUtil;
+import proxy.common.validator.JsonSchemaValidator;
 import proxy.infra.schemaregistry.result.RegisteredSchema;
 
 /**
@@ -36,6 +41,15 @@ public class SchemaRecordSerializer {
     @Autowired
     private ProtobufSerializer protobufSerializer;
 
+    @Autowired
+    private AvroSchemaRegistry avroSchemaRegistry;
+
+    @Autowired
+    private ProtobufDescriptorRegistry protobufDescriptorRegistry;
+
+    @Autowired
+    private JsonSchemaValidatorRegistry jsonSchemaValidatorRegistry;
+
     public Optional<ByteString> serialize(
             EmbeddedFormat format,
             Optional<RegisteredSchema> schema,
@@ -73,12 +87,14 @@ public class SchemaRecordSerializer {
      */
     private ByteString serializeAvro(RegisteredSchema schema, JsonNode data) {
         Object record = null;
+        // 스키마ID별로 저장된 파싱된 스키마 사용
+        CompiledSchema compiled = avroSchemaRegistry.getCompiledSchema(schema.getSchemaId(), schema::getSchema);
         try {
-            record = AvroSchemaUtil.toObject(schema.getSchema(), data); // data -> Object
+            record = AvroSchemaUtil.toObject(compiled, data); // data -> Object
         } catch (AvroTypeException | IOException e) {
             throw new ProxyException(Errors.JSON_TO_OBJECT_FAILED, e.getMessage());
         }
-        return ByteString.copyFrom(avroSerializer.serialize(schema, record));
+        return ByteString.copyFrom(avroSerializer.serialize(schema.getSchemaId(), compiled, record));
     }
 
     /**
@@ -90,8 +106,10 @@ public class SchemaRecordSerializer {
     private ByteString serializeJsonschema(RegisteredSchema schema, JsonNode data) {
         Object record = null;
         try {
-            record = JsonSchemaUtil.toObject(schema.getSchema(), data); // data -> Object
-        } catch (ProcessingException | IOException e) {
+            // 스키마ID별로 저장된 검증기 사용
+            JsonSchemaValidator validator = jsonSchemaValidatorRegistry.getValidator(schema.getSchemaId(), schema::getSchema);
+            record = JsonSchemaUtil.toObject(validator, data); // data -> Object
+        } catch (IOException e) {
             throw new ProxyException(Errors.JSON_TO_OBJECT_FAILED, e.getMessage());
         }
         return ByteString.copyFrom(jsonSchemaSerializer.serialize(schema, record));
@@ -106,7 +124,9 @@ public class SchemaRecordSerializer {
     private ByteString serializeProtobuf(RegisteredSchema schema, JsonNode data) {
         Message record = null;
         try {
-            record = (Message) ProtobufSchemaUtil.toObject(schema.getSchema(), data); // data -> Object
+            // 스키마ID별로 저장된 디스크립터 사용
+            Descriptor descriptor = protobufDescriptorRegistry.getDescriptor(schema.getSchemaId(), schema::getSchema);
+            record = (Message) ProtobufSchemaUtil.toObject(descriptor, data); // data -> Object
         } catch (DescriptorValidationException | IOException e) {
             throw new ProxyException(Errors.JSON_TO_OBJECT_FAILED, e.getMessage());
         }
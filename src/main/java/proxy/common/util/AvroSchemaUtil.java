@@ -1,24 +1,23 @@
 package proxy.common.util;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 
+import org.apache.avro.AvroTypeException;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
 import org.apache.avro.io.DatumReader;
-import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.DatumWriter;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+
+import proxy.common.converter.AvroJsonReader;
+import lombok.Getter;
 
 /**
  * Avro Schema utility 클래스
  */
 public class AvroSchemaUtil {
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-    private static final DecoderFactory decoderFactory = DecoderFactory.get();
-
     /**
      * Convert schema type String -> Avro
      * @param rawSchema // 스키마(내용)
@@ -28,6 +27,15 @@ public class AvroSchemaUtil {
         return new Schema.Parser().parse(rawSchema);
     }
 
+    /**
+     * 스키마(내용)를 파싱하여 재사용 가능한 스키마, reader, writer, JSON 변환기 생성
+     * @param rawSchema // 스키마(내용)
+     * @return
+     */
+    public static CompiledSchema compile(String rawSchema) {
+        return new CompiledSchema(toAvroSchema(rawSchema));
+    }
+
     /**
      * Convert data type JsonNode -> Object
      * @param data   // avro content
@@ -36,20 +44,41 @@ public class AvroSchemaUtil {
      * @throws IOException
      */
     public static Object toObject(String rawSchema, JsonNode data) throws IOException {
-        // get avro schema
-        Schema avroSchema = toAvroSchema(rawSchema);
+        return toObject(compile(rawSchema), data);
+    }
 
-        // reader 생성
-        DatumReader<Object> reader = new GenericDatumReader<>(avroSchema);
+    /**
+     * Convert data type JsonNode -> Object
+     * @param compiled // 파싱된 avro 스키마, 변환기
+     * @param data     // avro content
+     * @return
+     * @throws AvroTypeException 스키마와 맞지 않는 경우
+     */
+    public static Object toObject(CompiledSchema compiled, JsonNode data) throws IOException {
+        // JsonNode -> Object (JSON 문자열로 출력 후 다시 읽지 않고 직접 변환)
+        return compiled.getJsonReader().read(data);
+    }
+
+    /**
+     * <pre>
+     * 파싱된 avro 스키마와 reader, writer, JSON 변환기
+     * - 스키마ID별로 캐시하여 레코드마다 스키마를 파싱하지 않도록 함
+     * - GenericDatumReader, GenericDatumWriter는 스레드 간 공유 가능
+     * </pre>
+     */
+    @Getter
+    public static class CompiledSchema {
 
-        // JsonNode -> Object
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-            objectMapper.writeValue(output, data);
-            Object object = reader.read(null,
-                decoderFactory.jsonDecoder(avroSchema, new ByteArrayInputStream(output.toByteArray()))
-            );
+        private final Schema schema;              // avro 스키마
+        private final DatumReader<Object> reader; // avro reader
+        private final DatumWriter<Object> writer; // avro writer
+        private final AvroJsonReader jsonReader;  // JsonNode -> avro 변환기
 
-            return object;
+        private CompiledSchema(Schema schema) {
+            this.schema = schema;
+            this.reader = new GenericDatumReader<>(schema);
+            this.writer = new GenericDatumWriter<>(schema);
+            this.jsonReader = AvroJsonReader.forSchema(schema);
         }
     }
 }
@@ -10,6 +10,8 @@ import com.github.fge.jsonschema.core.report.ProcessingReport;
 import com.github.fge.jsonschema.main.JsonSchema;
 import com.github.fge.jsonschema.main.JsonSchemaFactory;
 
+import proxy.common.validator.JsonSchemaValidator;
+
 /**
  * Json Schema utility 클래스
  */
@@ -58,4 +60,21 @@ public class JsonSchemaUtil {
 
         return null;
     }
+
+    /**
+     * Convert data type JsonNode -> Object
+     * @param validator // 컴파일된 json 스키마 검증기
+     * @param data      // json content
+     * @return
+     * @throws IOException
+     */
+    public static Object toObject(JsonSchemaValidator validator, JsonNode data) throws IOException {
+        // 스키마 검증이 통과된 경우
+        if (validator.validate(data)) {
+            // JsonNode -> Object
+            return objectMapper.treeToValue(data, Object.class);
+        }
+
+        return null;
+    }
 }
@@ -27,6 +27,15 @@ public class ProtobufSchemaUtil {
     private static final String REQUIRED = "required";
     private static final String OPTIONAL = "optional";
 
+    // 스키마(내용) 파싱용 정규식 (미리 컴파일)
+    private static final Pattern SYNTAX_PATTERN = Pattern.compile("syntax\\s*=\\s*\"(proto[23])\"");
+    private static final Pattern MESSAGE_TYPE_NAME_PATTERN = Pattern.compile("message\\s+([\\w.]+)\\s*\\{");
+    private static final Pattern MESSAGE_FIELDS_PATTERN = Pattern.compile("message\\s+[\\w.]+\\s*\\{([^\\}]+)\\}");
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+    // JSON -> Message 변환기 (스레드 간 공유 가능)
+    private static final JsonFormat.Parser jsonParser = JsonFormat.parser();
+
     /**
      * 스키마(내용)를 기반으로 디스크립터 생성
      * @param rawSchema // 스키마(내용)
@@ -69,7 +78,7 @@ public class ProtobufSchemaUtil {
             for (String fieldDefinition : fieldDefinitions) {
                 if (fieldDefinition.trim().isEmpty()) continue;
 
-                String[] parts = fieldDefinition.trim().split("\\s+");
+                String[] parts = WHITESPACE_PATTERN.split(fieldDefinition.trim());
                 String fieldType = parts[0].trim(); // 필드 타입
                 String fieldName = parts[1].trim(); // 필드명
                 int fieldNumber = Integer.parseInt(parts[3].trim()); // 필드 식별자
@@ -89,7 +98,7 @@ public class ProtobufSchemaUtil {
             for (String fieldDefinition : fieldDefinitions) {
                 if (fieldDefinition.trim().isEmpty()) continue;
 
-                String[] parts = fieldDefinition.trim().split("\\s+");
+                String[] parts = WHITESPACE_PATTERN.split(fieldDefinition.trim());
                 String fieldLabel = parts[0].trim(); // 필드 라벨
                 String fieldType = parts[1].trim();  // 필드 타입
                 String fieldName = parts[2].trim();  // 필드명
@@ -129,8 +138,7 @@ public class ProtobufSchemaUtil {
      * @throws IllegalArgumentException // syntax값이 "proto2" 또는 "proto3"이 아닌 경우 예외 반환
      */
     private static String extractSyntax(String rawSchema) {
-        Pattern pattern = Pattern.compile("syntax\\s*=\\s*\"(proto[23])\"");
-        Matcher matcher = pattern.matcher(rawSchema);
+        Matcher matcher = SYNTAX_PATTERN.matcher(rawSchema);
 
         if (matcher.find()) return matcher.group(1);
         else throw new IllegalArgumentException("Syntax not found in raw schema");
@@ -143,8 +151,7 @@ public class ProtobufSchemaUtil {
      * @throws IllegalArgumentException // 메시지 타입명을 찾을 수 없는 경우 예외 반환
      */
     private static String extractMessageTypeName(String rawSchema) {
-        Pattern pattern = Pattern.compile("message\\s+([\\w.]+)\\s*\\{");
-        Matcher matcher = pattern.matcher(rawSchema);
+        Matcher matcher = MESSAGE_TYPE_NAME_PATTERN.matcher(rawSchema);
 
         if (matcher.find()) return matcher.group(1);
         else throw new IllegalArgumentException("Message type name not found in raw schema");
@@ -156,8 +163,7 @@ public class ProtobufSchemaUtil {
      * @return
      */
     private static List<String> extractFields(String rawSchema) {
-        Pattern pattern = Pattern.compile("message\\s+[\\w.]+\\s*\\{([^\\}]+)\\}");
-        Matcher matcher = pattern.matcher(rawSchema);
+        Matcher matcher = MESSAGE_FIELDS_PATTERN.matcher(rawSchema);
 
         List<String> fieldDefinitions = new ArrayList<>();
         while (matcher.find()) {
@@ -173,7 +179,7 @@ public class ProtobufSchemaUtil {
      * @return
      */
     private static DescriptorProtos.FieldDescriptorProto.Type getFieldType(String fieldDefinition) {
-        String[] parts = fieldDefinition.trim().split("\\s+");
+        String[] parts = WHITESPACE_PATTERN.split(fieldDefinition.trim());
         String fieldType = parts[0].trim();
 
         switch (fieldType) {
@@ -230,14 +236,23 @@ public class ProtobufSchemaUtil {
             throws IOException, DescriptorValidationException {
         
         // get protobuf schema (descriptor)
-        Descriptor descriptor = getDescriptor(rawSchema);
+        return toObject(getDescriptor(rawSchema), data);
+    }
 
+    /**
+     * Convert data type JsonNode -> Object(Message)
+     * @param descriptor // protobuf descriptor
+     * @param data       // protobuf content
+     * @return
+     * @throws IOException
+     */
+    public static Object toObject(Descriptor descriptor, JsonNode data) throws IOException {
         // JsonNode -> String data
         String value = toString(data);
 
         // String -> Message data
         DynamicMessage.Builder builder = DynamicMessage.newBuilder(descriptor);
-        JsonFormat.parser().merge(value, builder);
+        jsonParser.merge(value, builder);
 
         return builder.build();
     }
@@ -0,0 +1,42 @@
+package proxy.common.validator;
+
+import java.io.IOException;
+
+import org.springframework.stereotype.Component;
+
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.main.JsonSchema;
+
+import proxy.common.util.JsonSchemaUtil;
+
+/**
+ * json-schema-validator (com.github.fge) 기반 JSON 스키마 검증 엔진 (기본값)
+ */
+@Component
+public class FgeJsonSchemaValidatorEngine implements JsonSchemaValidatorEngine {
+
+    public static final String NAME = "fge";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public JsonSchemaValidator compile(String rawSchema) throws IOException {
+        final JsonSchema jsonSchema;
+        try {
+            jsonSchema = JsonSchemaUtil.toJsonSchema(rawSchema);
+        } catch (ProcessingException e) {
+            throw new IOException("Invalid JSON schema: " + e.getMessage(), e);
+        }
+
+        return data -> {
+            try {
+                return jsonSchema.validate(data).isSuccess();
+            } catch (ProcessingException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        };
+    }
+}
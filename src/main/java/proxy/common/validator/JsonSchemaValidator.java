@@ -0,0 +1,22 @@
+package proxy.common.validator;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * <pre>
+ * 컴파일된 JSON 스키마 검증기
+ * - 스키마ID별로 캐시되어 여러 스레드에서 동시에 사용되므로, 구현체는 스레드 안전해야 함
+ * </pre>
+ */
+public interface JsonSchemaValidator {
+
+    /**
+     * 데이터의 스키마 일치 여부 반환 (true: 일치)
+     * @param data // json content
+     * @return
+     * @throws IOException 검증을 수행할 수 없는 경우
+     */
+    boolean validate(JsonNode data) throws IOException;
+}
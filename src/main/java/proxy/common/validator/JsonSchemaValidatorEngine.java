@@ -0,0 +1,27 @@
+package proxy.common.validator;
+
+import java.io.IOException;
+
+/**
+ * <pre>
+ * JSON 스키마 검증 엔진
+ * - 스키마(내용)를 검증기로 컴파일
+ * - 구현체를 bean으로 등록하고 {@code schema.jsonschema.validator} 설정값에 엔진명을 지정하여 교체
+ * </pre>
+ */
+public interface JsonSchemaValidatorEngine {
+
+    /**
+     * 엔진명 반환
+     * @return
+     */
+    String getName();
+
+    /**
+     * 스키마(내용)를 검증기로 컴파일
+     * @param rawSchema // 스키마(내용)
+     * @return
+     * @throws IOException 유효하지 않은 스키마인 경우
+     */
+    JsonSchemaValidator compile(String rawSchema) throws IOException;
+}
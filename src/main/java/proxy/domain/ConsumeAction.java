@@ -2,6 +2,8 @@ package proxy.domain;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 import java.util.UUID;
 import java.util.Vector;
@@ -24,11 +26,14 @@ import proxy.api.response.ConsumerSubscriptionResponse;
 import proxy.common.callback.ConsumerReadCallback;
 import proxy.common.config.ConsumerInstanceConfig;
 import proxy.common.config.KafkaClientConfig;
+import proxy.common.config.KafkaRestConfig;
 import proxy.common.converter.AvroConverter;
 import proxy.common.converter.JsonSchemaConverter;
 import proxy.common.converter.ProtobufConverter;
 import proxy.common.exception.ProxyException;
 import proxy.common.exception.resource.Errors;
+import proxy.common.format.EmbeddedFormat;
+import proxy.infra.kafka.ConsumerAdmissionController;
 import proxy.infra.kafka.ConsumerManager;
 import proxy.infra.kafka.task.ConsumerReadTask;
 import proxy.infra.kafka.worker.BinaryConsumerWorker;
@@ -45,9 +50,15 @@ public class ConsumeAction {
     @Autowired
     private KafkaClientConfig kafkaClientConfig;
 
+    @Autowired
+    private KafkaRestConfig kafkaRestConfig;
+
     @Autowired
     private ConsumerManager consumerManager;
 
+    @Autowired
+    private ConsumerAdmissionController admissionController;
+
     public static final String CONSUMER_ID_PREFIX = "kafka-rest-consumer-";
 
     /**
@@ -65,23 +76,84 @@ public class ConsumeAction {
         var props = this.kafkaClientConfig.getConsumerConfig(groupName, instanceConfig);
         props = this.kafkaClientConfig.addSecurityConfig(props);
 
-        // 컨슈머 생성
-        Consumer<?, ?> consumer = new KafkaConsumer<>(props);
-
         // 컨슈머 인스턴스 설정값 정보 저장
         instanceConfig = instanceConfig.setInstanceConfig(props);
+        // 백그라운드 프리패치 사용 여부 결정
+        instanceConfig = instanceConfig.setPrefetchEnable(isPrefetchEnabled(instanceConfig));
+        // 인스턴스 만료 시간 결정 (요청값이 없거나 유효하지 않은 경우, 서버 설정값 적용)
+        instanceConfig = instanceConfig.setInstanceTimeoutMs(
+            instanceConfig.getInstanceTimeoutMs() != null && instanceConfig.getInstanceTimeoutMs() > 0
+                ? instanceConfig.getInstanceTimeoutMs()
+                : this.kafkaRestConfig.getConsumerInstanceTimeoutMs());
+
+        // 컨슈머 생성 전 자원 예약 (이미 존재하는 인스턴스이거나 자원 한도를 초과한 경우, 예외 발생)
+        this.admissionController.reserve(cid, getBufferedBytesEstimate(instanceConfig));
+
+        Consumer<?, ?> consumer = null;
+        ConsumerWorker<?, ?, ?, ?> worker = null;
+        try {
+            // 컨슈머 생성
+            consumer = new KafkaConsumer<>(props);
+
+            // 메시지 포맷에 따라 컨슈머 워커 생성
+            worker = createConsumerWorker(instanceConfig, cid, consumer);
+
+            // 휴면 후 동일한 설정으로 컨슈머를 다시 생성할 수 있도록 생성 함수 세팅
+            final Properties consumerProps = props;
+            worker.setConsumerFactory(() -> new KafkaConsumer<>(consumerProps));
 
-        // 메시지 포맷에 따라 컨슈머 워커 생성
-        ConsumerWorker<?, ?, ?, ?> worker = createConsumerWorker(instanceConfig, cid, consumer);
-        synchronized (this) {
             // 컨슈머 풀에 인스턴스 추가
             this.consumerManager.addConsumer(cid, worker);
+
+        // 컨슈머 풀에 추가하지 못한 경우, 생성한 컨슈머 종료 및 예약한 자원 반환 후 예외 발생
+        } catch (RuntimeException e) {
+            if (worker != null) {
+                worker.close();
+            } else if (consumer != null) {
+                consumer.close();
+            }
+            this.admissionController.release(cid);
+            throw e;
         }
 
         // 인스턴스 고유ID 반환
         return instanceName;
     }
 
+    /**
+     * <pre>
+     * 컨슈머 인스턴스가 메모리에 보관할 수 있는 최대 바이트 수 추정
+     * - fetch.max.bytes (1회 fetch 응답 최대 크기) + 프리패치 사용 시 프리패치 최대 바이트 수
+     * </pre>
+     * @param instanceConfig // 컨슈머 인스턴스 설정값
+     * @return
+     */
+    private long getBufferedBytesEstimate(ConsumerInstanceConfig instanceConfig) {
+        long bytes = this.kafkaRestConfig.getConsumerFetchMaxBytes();
+        if (Boolean.TRUE.equals(instanceConfig.getPrefetchEnable())) {
+            bytes += this.kafkaRestConfig.getConsumerPrefetchMaxBytes();
+        }
+
+        return bytes;
+    }
+
+    /**
+     * <pre>
+     * 백그라운드 프리패치 사용 여부 반환 (true: 사용)
+     * - 요청값이 없는 경우, 서버 설정값 적용
+     * - 자동 커밋 사용 시, 클라이언트에 전달되지 않은 레코드가 커밋될 수 있으므로 사용하지 않음
+     * </pre>
+     * @param instanceConfig // 컨슈머 인스턴스 설정값
+     * @return
+     */
+    private boolean isPrefetchEnabled(ConsumerInstanceConfig instanceConfig) {
+        if (Boolean.parseBoolean(instanceConfig.getEnableAutoCommit())) return false;
+
+        return instanceConfig.getPrefetchEnable() != null
+            ? instanceConfig.getPrefetchEnable()
+            : this.kafkaRestConfig.isConsumerPrefetchEnable();
+    }
+
     /**
      * 컨슈머 워커 생성
      * @param format   // 메시지 포맷
@@ -136,7 +208,7 @@ public class ConsumeAction {
      * @param toRemove  // 컨슈머 인스턴스 삭제 여부
      * @return
      */
-    private synchronized ConsumerWorker<?, ?, ?, ?> getConsumerInstance(String groupName, String instance, boolean toRemove) {
+    private ConsumerWorker<?, ?, ?, ?> getConsumerInstance(String groupName, String instance, boolean toRemove) {
         // 컨슈머 인스턴스ID 조회
         ConsumerInstanceId cid = new ConsumerInstanceId(groupName, instance);
 
@@ -150,7 +222,12 @@ public class ConsumeAction {
         }
         
         // 컨슈머 인스턴스 만료 시간 증가 (컨슈머 작업 도중 만료되지 않게 하기 위함)
-        consumer.updateExpiration();
+        // 삭제 요청이 아닌 경우, 휴면 중인 인스턴스 재개 (휴면 처리와 경합하지 않도록 한 번에 수행)
+        if (toRemove) {
+            consumer.updateExpiration();
+        } else {
+            consumer.touch();
+        }
         
         return consumer;
     }
@@ -165,6 +242,16 @@ public class ConsumeAction {
         return getConsumerInstance(groupName, instance, false);
     }
 
+    /**
+     * 컨슈머 인스턴스의 메시지 포맷 조회
+     * @param groupName // 컨슈머 그룹명
+     * @param instance  // 컨슈머 인스턴스명
+     * @return
+     */
+    public EmbeddedFormat getConsumerFormat(String groupName, String instance) {
+        return getConsumerInstance(groupName, instance).getConsumerInstanceConfig().getFormat();
+    }
+
     /**
      * 컨슈머 인스턴스 삭제
      * @param groupName // 컨슈머 그룹명
@@ -324,6 +411,23 @@ public class ConsumeAction {
         }
     }
 
+    /**
+     * <pre>
+     * 클라이언트에 전달하지 못한 레코드의 파티션 위치를 되돌림
+     * - 인스턴스가 이미 삭제된 경우, 무시
+     * </pre>
+     * @param groupName // 컨슈머 그룹명
+     * @param instance  // 컨슈머 인스턴스명
+     * @param offsets   // 파티션별 전달하지 못한 첫 번째 레코드의 오프셋
+     */
+    public void rewind(String groupName, String instance, Map<TopicPartition, Long> offsets) {
+        ConsumerWorker<?, ?, ?, ?> consumer = this.consumerManager.getConsumer(new ConsumerInstanceId(groupName, instance));
+        // 조회된 인스턴스가 있는 경우
+        if (consumer != null) {
+            consumer.rewind(offsets);
+        }
+    }
+
     /**
      * 컨슈머 초기 오프셋으로 이동
      * @param groupName // 컨슈머 그룹명
@@ -374,6 +478,27 @@ public class ConsumeAction {
             final Duration timeoutMs,
             final long maxBytes,
             final ConsumerReadCallback<ClientKeyT, ClientValueT> callback) {
+        readRecords(groupName, instance, consumerWorkerType, timeoutMs, maxBytes, Integer.MAX_VALUE, callback);
+    }
+
+    /**
+     * 메시지 컨슈밍 (최대 레코드 수 제한)
+     * @param groupName          // 컨슈머 그룹명
+     * @param instance           // 컨슈머 인스턴스명
+     * @param consumerWorkerType // 메시지 타입별 컨슈머 워커
+     * @param timeoutMs          // 프록시 서버가 응답에 소요하는 최대 시간
+     * @param maxBytes           // 프록시 서버가 응답할 메시지 키, 값의 최대 바이트 수
+     * @param maxRecords         // 프록시 서버가 응답할 최대 레코드 수
+     * @param callback           // 메시지 읽기 작업 실행 후 결과/예외 반환 콜백
+     */
+    public <KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT> void readRecords(
+            final String groupName,
+            final String instance,
+            Class<? extends ConsumerWorker<KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT>> consumerWorkerType,
+            final Duration timeoutMs,
+            final long maxBytes,
+            final int maxRecords,
+            final ConsumerReadCallback<ClientKeyT, ClientValueT> callback) {
         
         final ConsumerWorker consumer;
         try {
@@ -395,9 +520,15 @@ public class ConsumeAction {
         // 컨슈머 읽기 작업 구성
         final ConsumerReadTask<?, ?, ?, ?> task =
             new ConsumerReadTask<KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT>(
-                consumer, timeoutMs, maxBytes, callback);
+                consumer, timeoutMs, maxBytes, maxRecords, callback);
+
+        try {
+            // 컨슈머 읽기 작업 제출 (완료될 때까지 백오프 후 재실행)
+            this.consumerManager.getReadScheduler().schedule(task);
 
-        // 컨슈머 읽기 작업 제출
-        this.consumerManager.getExecutor().submit(task);
+        // 실행/대기할 수 있는 읽기 작업 수를 초과한 경우, 예외 발생
+        } catch (ProxyException e) {
+            callback.onCompletion(null, e);
+        }
     }
 }
@@ -0,0 +1,388 @@
+package proxy.domain;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import proxy.api.response.ErrorResponse;
+import proxy.common.callback.ConsumerStreamCallback;
+import proxy.common.config.KafkaRestConfig;
+import proxy.common.exception.ProxyException;
+import proxy.common.exception.resource.Errors;
+import proxy.common.format.EmbeddedFormat;
+import proxy.infra.kafka.result.BinaryConsumerRecord;
+import proxy.infra.kafka.result.ConsumerRecord;
+import proxy.infra.kafka.result.JsonConsumerRecord;
+import proxy.infra.kafka.result.SchemaConsumerRecord;
+import proxy.infra.kafka.worker.BinaryConsumerWorker;
+import proxy.infra.kafka.worker.ConsumerInstanceId;
+import proxy.infra.kafka.worker.ConsumerWorker;
+import proxy.infra.kafka.worker.JsonConsumerWorker;
+import proxy.infra.kafka.worker.SchemaConsumerWorker;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <pre>
+ * 컨슈머 인스턴스 push 구독 (Server-Sent Events)
+ * - 클라이언트가 부여한 크레딧(레코드 수) 만큼 레코드를 읽어 연속으로 전송
+ * - 크레딧이 소진되면 읽기를 멈추고, 크레딧이 추가되면 다시 읽음
+ * </pre>
+ */
+@Service
+@Slf4j
+public class ConsumerPushAction {
+
+    @Autowired
+    private ConsumeAction consumeAction;
+
+    @Autowired
+    private KafkaRestConfig kafkaRestConfig;
+
+    // SSE 이벤트명
+    public static final String RECORDS_EVENT = "records";
+    public static final String ERROR_EVENT = "error";
+
+    /* key = instance id, value = push 구독 세션 */
+    private final ConcurrentHashMap<ConsumerInstanceId, PushSession> sessions = new ConcurrentHashMap<>();
+
+    // 읽기 작업 수 초과 시 재시도, heartbeat 전송 스케줄러
+    private final ScheduledExecutorService scheduler = newScheduler();
+
+    /**
+     * 재시도, heartbeat 전송 스케줄러 생성 (서버 종료를 막지 않도록 데몬 스레드 사용)
+     * @return
+     */
+    private static ScheduledExecutorService newScheduler() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "consumer-push-scheduler-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 스케줄러 종료 및 push 구독 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        sessions.values().forEach(PushSession::close);
+    }
+
+    /**
+     * push 구독 시작
+     * @param groupName // 컨슈머 그룹명
+     * @param instance  // 컨슈머 인스턴스명
+     * @param credits   // 초기 크레딧 (전송할 레코드 수)
+     * @return
+     */
+    public SseEmitter subscribe(String groupName, String instance, long credits) {
+        // 컨슈머 인스턴스의 메시지 포맷 조회 (인스턴스가 없는 경우, 예외 발생)
+        EmbeddedFormat format = this.consumeAction.getConsumerFormat(groupName, instance);
+
+        // 응답 제한 시간 없음 (클라이언트 연결 종료 또는 인스턴스 삭제 시 종료)
+        // 클라이언트 연결 종료는 heartbeat 전송 실패로 감지
+        SseEmitter emitter = new SseEmitter(0L);
+        PushSession session = new PushSession(new ConsumerInstanceId(groupName, instance), format, emitter);
+
+        // 동일한 인스턴스에 대한 이전 구독은 종료
+        PushSession previous = sessions.put(session.id, session);
+        if (previous != null) {
+            previous.close();
+        }
+
+        emitter.onCompletion(() -> removeSession(session));
+        emitter.onTimeout(() -> removeSession(session));
+        emitter.onError(e -> removeSession(session));
+
+        // 주기적으로 heartbeat 전송 (크레딧이 소진되어 레코드를 전송하지 않는 동안에도 연결 종료 감지)
+        long heartbeatMs = this.kafkaRestConfig.getConsumerPushHeartbeatMs();
+        if (heartbeatMs > 0) {
+            try {
+                session.heartbeat = scheduler.scheduleWithFixedDelay(
+                    () -> heartbeat(session), heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException ignored) {
+                // 스케줄러 종료 (서버 셧다운)
+            }
+        }
+
+        log.info("Start push subscription for consumer [{}] in group [{}]", instance, groupName);
+
+        addCredits(session, credits);
+
+        return emitter;
+    }
+
+    /**
+     * push 구독 크레딧 추가
+     * @param groupName // 컨슈머 그룹명
+     * @param instance  // 컨슈머 인스턴스명
+     * @param credits   // 추가할 크레딧 (전송할 레코드 수)
+     * @return 남은 크레딧
+     */
+    public long addCredits(String groupName, String instance, long credits) {
+        PushSession session = sessions.get(new ConsumerInstanceId(groupName, instance));
+
+        // push 구독 중이 아닌 경우, 예외 발생
+        if (session == null) {
+            throw new ProxyException(Errors.PUSH_SUBSCRIPTION_NOT_FOUND);
+        }
+
+        return addCredits(session, credits);
+    }
+
+    /**
+     * 크레딧 추가 후, 읽기 작업 시작
+     * @param session // push 구독 세션
+     * @param credits // 추가할 크레딧
+     * @return 남은 크레딧
+     */
+    private long addCredits(PushSession session, long credits) {
+        long remaining = session.credits.addAndGet(Math.max(0, credits));
+        maybeRead(session);
+
+        return remaining;
+    }
+
+    /**
+     * 남은 크레딧이 있고 진행 중인 읽기 작업이 없는 경우, 읽기 작업 시작
+     * @param session // push 구독 세션
+     */
+    private void maybeRead(PushSession session) {
+        if (session.closed || session.credits.get() <= 0) return;
+
+        // 세션별로 하나의 읽기 작업만 실행
+        if (!session.reading.compareAndSet(false, true)) return;
+
+        // 메시지 포맷에 따라 컨슈머 워커 및 응답값 맵핑 메소드 구분
+        switch (session.format) {
+            case BINARY:
+                read(session, BinaryConsumerWorker.class, BinaryConsumerRecord::fromConsumerRecord);
+                break;
+            case JSON:
+                read(session, JsonConsumerWorker.class, JsonConsumerRecord::fromConsumerRecord);
+                break;
+            default:
+                read(session, SchemaConsumerWorker.class, SchemaConsumerRecord::fromConsumerRecord);
+        }
+    }
+
+    /**
+     * 읽기 작업 생성 (남은 크레딧 만큼)
+     * @param session            // push 구독 세션
+     * @param consumerWorkerType // 메시지 타입별 컨슈머 워커
+     * @param toJsonWrapper      // 컨슈머 레코드 응답값 맵핑 메소드
+     */
+    private <KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT> void read(
+            PushSession session,
+            Class<? extends ConsumerWorker<KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT>> consumerWorkerType,
+            Function<ConsumerRecord<ClientKeyT, ClientValueT>, ?> toJsonWrapper) {
+
+        int maxRecords = (int) Math.min(Integer.MAX_VALUE, session.credits.get());
+
+        this.consumeAction.readRecords(
+            session.id.getGroup(),
+            session.id.getInstance(),
+            consumerWorkerType,
+            Duration.ofMillis(this.kafkaRestConfig.getConsumerPushReadTimeoutMs()),
+            Long.MAX_VALUE,
+            maxRecords,
+            new ConsumerStreamCallback<ClientKeyT, ClientValueT>() {
+                @Override
+                public void onBatch(List<ConsumerRecord<ClientKeyT, ClientValueT>> records) {
+                    // 메시지 포맷별 응답값 맵핑 후 전송
+                    // 구독이 종료되어 전송하지 못한 경우, 다음 읽기 시 다시 읽도록 위치를 되돌림
+                    if (!session.send(records.stream().map(toJsonWrapper).collect(Collectors.toList()))) {
+                        rewind(session, records);
+                    }
+                }
+
+                @Override
+                public void onCompletion(List<ConsumerRecord<ClientKeyT, ClientValueT>> records, Exception e) {
+                    if (records != null && !records.isEmpty()) onBatch(records);
+                    session.reading.set(false);
+
+                    if (e == null) {
+                        // 남은 크레딧이 있는 경우, 다음 읽기 작업 시작
+                        maybeRead(session);
+                    } else if (e instanceof ProxyException
+                            && ((ProxyException) e).getErrors() == Errors.CONSUMER_READ_TASKS_EXHAUSTED) {
+                        // 읽기 작업 수 초과 시, 백오프 후 재시도
+                        try {
+                            scheduler.schedule(
+                                () -> maybeRead(session),
+                                kafkaRestConfig.getConsumerReadBackoffMs(),
+                                TimeUnit.MILLISECONDS);
+                        } catch (RejectedExecutionException ignored) {
+                            // 스케줄러 종료 (서버 셧다운)
+                        }
+                    } else {
+                        // 그 외 오류 (인스턴스 삭제 등) 발생 시, 오류 전송 후 구독 종료
+                        session.fail(e);
+                    }
+                }
+
+                @Override
+                public boolean isCancelled() {
+                    return session.closed;
+                }
+            });
+    }
+
+    /**
+     * 전송하지 못한 레코드의 파티션별 첫 번째 오프셋으로 컨슈머 위치를 되돌림
+     * @param session // push 구독 세션
+     * @param records // 전송하지 못한 레코드 목록
+     */
+    private void rewind(PushSession session, List<? extends ConsumerRecord<?, ?>> records) {
+        if (records.isEmpty()) return;
+
+        Map<TopicPartition, Long> offsets = new HashMap<>();
+        for (ConsumerRecord<?, ?> record : records) {
+            offsets.merge(new TopicPartition(record.getTopic(), record.getPartition()), record.getOffset(), Math::min);
+        }
+        this.consumeAction.rewind(session.id.getGroup(), session.id.getInstance(), offsets);
+    }
+
+    /**
+     * heartbeat 전송 (전송 실패 시, 구독 종료)
+     * @param session // push 구독 세션
+     */
+    private void heartbeat(PushSession session) {
+        if (!session.heartbeat()) {
+            removeSession(session);
+        }
+    }
+
+    /**
+     * push 구독 세션 제거
+     * @param session
+     */
+    private void removeSession(PushSession session) {
+        session.closed = true;
+        session.cancelHeartbeat();
+        if (sessions.remove(session.id, session)) {
+            log.info("End push subscription for consumer [{}] in group [{}]", session.id.getInstance(), session.id.getGroup());
+        }
+    }
+
+    /**
+     * push 구독 세션
+     */
+    private static class PushSession {
+
+        private final ConsumerInstanceId id;   // 컨슈머 인스턴스ID
+        private final EmbeddedFormat format;   // 메시지 포맷
+        private final SseEmitter emitter;      // SSE 응답
+
+        // 남은 크레딧 (전송할 수 있는 레코드 수)
+        private final AtomicLong credits = new AtomicLong();
+        // 읽기 작업 진행 여부
+        private final AtomicBoolean reading = new AtomicBoolean(false);
+        // 구독 종료 여부
+        private volatile boolean closed = false;
+        // heartbeat 전송 작업
+        private volatile ScheduledFuture<?> heartbeat;
+
+        private PushSession(ConsumerInstanceId id, EmbeddedFormat format, SseEmitter emitter) {
+            this.id = id;
+            this.format = format;
+            this.emitter = emitter;
+        }
+
+        /**
+         * 레코드 목록 전송 후, 전송한 만큼 크레딧 차감
+         * @param records // 응답값 맵핑된 레코드 목록
+         * @return 전송 여부 (false: 구독이 종료되어 전송하지 못함)
+         */
+        private boolean send(List<?> records) {
+            if (records.isEmpty()) return true;
+            if (closed) return false;
+
+            try {
+                emitter.send(SseEmitter.event().name(RECORDS_EVENT).data(records, MediaType.APPLICATION_JSON));
+                credits.addAndGet(-records.size());
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 종료
+                closed = true;
+                return false;
+            }
+        }
+
+        /**
+         * heartbeat(SSE comment) 전송
+         * @return 전송 여부 (false: 클라이언트 연결 종료)
+         */
+        private boolean heartbeat() {
+            if (closed) return false;
+
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 종료
+                closed = true;
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+
+        /**
+         * heartbeat 전송 작업 취소
+         */
+        private void cancelHeartbeat() {
+            ScheduledFuture<?> heartbeat = this.heartbeat;
+            if (heartbeat != null) heartbeat.cancel(false);
+        }
+
+        /**
+         * 오류 전송 후, 구독 종료
+         * @param e
+         */
+        private void fail(Exception e) {
+            if (closed) return;
+
+            try {
+                ErrorResponse error = e instanceof ProxyException
+                    ? new ErrorResponse(((ProxyException) e).getCode(), ((ProxyException) e).getMessage())
+                    : new ErrorResponse(Errors.UNEXPECTED_NON_KAFKA_ERROR.code(), e.getMessage());
+                emitter.send(SseEmitter.event().name(ERROR_EVENT).data(error, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException ignored) {
+                // 클라이언트 연결 종료
+            }
+
+            close();
+        }
+
+        /**
+         * 구독 종료
+         */
+        private void close() {
+            closed = true;
+            cancelHeartbeat();
+            emitter.complete();
+        }
+    }
+}
@@ -18,10 +18,13 @@ import proxy.api.request.ProduceRequest.ProduceRecord;
 import proxy.api.response.ProduceResponse;
 import proxy.api.response.ProduceResponse.PartitionOffset;
 import proxy.common.CompletableFutures;
+import proxy.common.exception.ProxyException;
 import proxy.common.exception.resource.Errors;
 import proxy.common.format.EmbeddedFormat;
 import proxy.common.serializer.RecordSerializer;
+import proxy.infra.kafka.ProduceAdmissionController;
 import proxy.infra.kafka.ProducerManager;
+import proxy.infra.kafka.ProducerPool;
 import proxy.infra.kafka.result.ProduceResult;
 import proxy.infra.schemaregistry.SchemaManager;
 import proxy.infra.schemaregistry.result.RegisteredSchema;
@@ -40,11 +43,15 @@ public class ProduceAction {
     @Autowired
     private SchemaManager schemaManager;
 
+    @Autowired
+    private ProduceAdmissionController produceAdmissionController;
+
     /**
      * (스키마 X) 메시지 프로듀싱
      * @param format    // 메시지 포맷
      * @param topicName // 토픽명
      * @param partition // 파티션ID
+     * @param profile   // 프로듀서 프로파일명 (없는 경우, 토픽별 매핑 또는 기본 프로파일)
      * @param request   // 프로듀싱 요청값
      * @return
      */
@@ -52,7 +59,13 @@ public class ProduceAction {
             EmbeddedFormat format,
             String topicName,
             Optional<Integer> partition,
+            String profile,
             ProduceRequest request) {
+
+        // 프로듀서 프로파일 조회 (존재하지 않는 경우, 예외 발생)
+        ProducerPool producerPool = producerManager.getProducerPool(profile, topicName);
+        // 프로듀서 서킷이 열린 경우 (복구 중), 예외 발생
+        producerPool.ensureAvailable(topicName);
         
         // 메시지 직렬화
         List<SerializedKeyAndValue> serialized =
@@ -65,7 +78,7 @@ public class ProduceAction {
                 request.getRecords());
 
         // 메시지 프로듀싱
-        List<CompletableFuture<ProduceResult>> result = doProduce(topicName, serialized);
+        List<CompletableFuture<ProduceResult>> result = doProduce(producerPool, topicName, serialized);
 
         // 프로듀싱 응답값 -> REST Proxy 응답 형태
         return produceResultsToResponse(
@@ -77,6 +90,7 @@ public class ProduceAction {
      * @param format    // 메시지 포맷
      * @param topicName // 토픽명
      * @param partition // 파티션ID
+     * @param profile   // 프로듀서 프로파일명 (없는 경우, 토픽별 매핑 또는 기본 프로파일)
      * @param request   // 프로듀싱 요청값
      * @return
      */
@@ -84,8 +98,14 @@ public class ProduceAction {
             EmbeddedFormat format,
             String topicName,
             Optional<Integer> partition,
+            String profile,
             ProduceRequest request) {
 
+        // 프로듀서 프로파일 조회 (존재하지 않는 경우, 예외 발생)
+        ProducerPool producerPool = producerManager.getProducerPool(profile, topicName);
+        // 프로듀서 서킷이 열린 경우 (복구 중), 예외 발생
+        producerPool.ensureAvailable(topicName);
+
         // 키 스키마 조회
         Optional<RegisteredSchema> keySchema =
             getSchema(
@@ -115,7 +135,7 @@ public class ProduceAction {
                 request.getRecords());
 
         // 메시지 프로듀싱
-        List<CompletableFuture<ProduceResult>> result = doProduce(topicName, serialized);
+        List<CompletableFuture<ProduceResult>> result = doProduce(producerPool, topicName, serialized);
 
         // 프로듀싱 응답값 -> REST Proxy 응답 형태
         return produceResultsToResponse(keySchema, valueSchema, result);
@@ -199,32 +219,44 @@ public class ProduceAction {
     }
 
     /**
-     * 메시지 프로듀싱
-     * @param topicName  // 토픽명
-     * @param serialized // 직렬화된 메시지 키, 값 목록
+     * in-flight 바이트 수 예약 후, 메시지 프로듀싱
+     * @param producerPool // 프로파일별 producer pool
+     * @param topicName    // 토픽명
+     * @param serialized   // 직렬화된 메시지 키, 값 목록
      * @return
+     * @throws ProxyException in-flight 한도를 초과한 경우
      */
     private List<CompletableFuture<ProduceResult>> doProduce(
-            String topicName, List<SerializedKeyAndValue> serialized) {
+            ProducerPool producerPool, String topicName, List<SerializedKeyAndValue> serialized) {
+
+        // in-flight 바이트 수 예약 (한도 초과 시, 예약한 레코드 수 반환 후 예외 발생)
+        long byteCount = serialized.stream().mapToLong(SerializedKeyAndValue::size).sum();
+        produceAdmissionController.reserveBytes(topicName, serialized.size(), byteCount);
 
         // 레코드마다 반복
         return serialized.stream()
             .map(
-                record ->
-                    producerManager
-                        .produce(
-                            /* clusterId= */ "",
-                            topicName,
-                            record.getPartitionId(),
-                            /* headers= */ ImmutableMultimap.of(),
-                            record.getKey(),
-                            record.getValue(),
-                            /* timestamp= */ Instant.now()))
+                record -> {
+                    CompletableFuture<ProduceResult> result =
+                        producerPool
+                            .produce(
+                                /* clusterId= */ "",
+                                topicName,
+                                record.getPartitionId(),
+                                /* headers= */ ImmutableMultimap.of(),
+                                record.getKey(),
+                                record.getValue(),
+                                /* timestamp= */ Instant.now());
+
+                    // 브로커 응답 수신 시, 레코드별 in-flight 예약 반환
+                    result.whenComplete((produced, e) -> produceAdmissionController.release(topicName, 1, record.size()));
+                    return result;
+                })
             .collect(Collectors.toList());
     }
 
     /**
-     * 메시지 직렬화
+     * in-flight 레코드 수 예약 후, 메시지 직렬화
      * @param format      // 메시지 포맷
      * @param topicName   // 토픽명
      * @param partition   // 파티션ID
@@ -232,6 +264,7 @@ public class ProduceAction {
      * @param valueSchema // 메시지 값 스키마
      * @param records     // 레코드 목록
      * @return
+     * @throws ProxyException in-flight 한도를 초과한 경우
      */
     private List<SerializedKeyAndValue> serialize(
             EmbeddedFormat format,
@@ -241,30 +274,39 @@ public class ProduceAction {
             Optional<RegisteredSchema> valueSchema,
             List<ProduceRecord> records) {
 
-        // 레코드마다 반복
-        return records.stream()
-            .map(
-                record ->
-                    new SerializedKeyAndValue(
-                        // 파티션ID
-                        record.getPartition() == null ? partition : record.getPartition(),
-                        // 메시지 키 직렬화
-                        recordSerializer
-                            .serialize(
-                                format,
-                                topicName,
-                                keySchema,
-                                record.getKey() == null ? NullNode.getInstance() : record.getKey().get(),
-                                /* isKey= */ true),
-                        // 메시지 값 직렬화
-                        recordSerializer
-                            .serialize(
-                                format,
-                                topicName,
-                                valueSchema,
-                                record.getValue() == null ? NullNode.getInstance() : record.getValue().get(),
-                                /* isKey= */ false)))
-            .collect(Collectors.toList());
+        // in-flight 레코드 수 예약 (한도 초과 시, 예외 발생)
+        produceAdmissionController.reserveRecords(topicName, records.size());
+
+        try {
+            // 레코드마다 반복
+            return records.stream()
+                .map(
+                    record ->
+                        new SerializedKeyAndValue(
+                            // 파티션ID
+                            record.getPartition() == null ? partition : record.getPartition(),
+                            // 메시지 키 직렬화
+                            recordSerializer
+                                .serialize(
+                                    format,
+                                    topicName,
+                                    keySchema,
+                                    record.getKey() == null ? NullNode.getInstance() : record.getKey().get(),
+                                    /* isKey= */ true),
+                            // 메시지 값 직렬화
+                            recordSerializer
+                                .serialize(
+                                    format,
+                                    topicName,
+                                    valueSchema,
+                                    record.getValue() == null ? NullNode.getInstance() : record.getValue().get(),
+                                    /* isKey= */ false)))
+                .collect(Collectors.toList());
+        } catch (RuntimeException e) {
+            // 직렬화 실패 시, 예약한 레코드 수 반환
+            produceAdmissionController.release(topicName, records.size(), 0);
+            throw e;
+        }
     }
 
     /**
@@ -277,5 +319,13 @@ public class ProduceAction {
         public Optional<Integer> partitionId;
         public Optional<ByteString> key;
         public Optional<ByteString> value;
+
+        /**
+         * 직렬화된 메시지 크기 (키 + 값)
+         * @return
+         */
+        public long size() {
+            return key.map(ByteString::size).orElse(0) + value.map(ByteString::size).orElse(0);
+        }
     }
 }
@@ -0,0 +1,86 @@
+package proxy.domain;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import proxy.api.response.ProduceAcceptedResponse;
+import proxy.api.response.ProduceBatchStatusResponse;
+import proxy.api.response.ProduceBatchStatusResponse.Status;
+import proxy.api.response.ProduceResponse;
+import proxy.common.cache.CacheConfig;
+import proxy.common.cache.ProxyCacheManager;
+import proxy.common.exception.ProxyException;
+import proxy.common.exception.resource.Errors;
+
+/**
+ * <pre>
+ * 비동기 프로듀싱 결과 관리
+ * - 직렬화까지 완료된 프로듀싱 요청을 배치 토큰으로 등록하고, 브로커 응답은 기다리지 않음
+ * - 프로듀싱 결과는 {@link CacheConfig#PRODUCE_BATCH_STATUS} 캐시에 보관 (최대 건수, 만료 시간 초과 시 제거)
+ * </pre>
+ */
+@Service
+public class ProduceStatusAction {
+
+    @Autowired
+    private ProxyCacheManager cacheManager;
+
+    // 비동기 프로듀싱 모드 헤더값
+    public static final String ASYNC_MODE = "async";
+
+    /**
+     * 비동기 프로듀싱 여부
+     * @param async       // async 쿼리 파라미터
+     * @param produceMode // X-Produce-Mode 헤더값
+     * @return
+     */
+    public boolean isAsync(boolean async, String produceMode) {
+        return async || ASYNC_MODE.equalsIgnoreCase(produceMode);
+    }
+
+    /**
+     * 프로듀싱 결과를 배치 토큰으로 등록
+     * @param response // 프로듀싱 결과 (브로커 응답 수신 시 완료)
+     * @return
+     */
+    public ProduceAcceptedResponse accept(CompletableFuture<ProduceResponse> response) {
+        String batchToken = UUID.randomUUID().toString();
+        this.cacheManager.put(CacheConfig.PRODUCE_BATCH_STATUS, batchToken, response);
+
+        return new ProduceAcceptedResponse(batchToken);
+    }
+
+    /**
+     * 배치 토큰으로 프로듀싱 결과 조회
+     * @param batchToken // 프로듀싱 결과 조회 토큰
+     * @return
+     * @throws ProxyException 존재하지 않거나 만료된 토큰인 경우
+     */
+    public ProduceBatchStatusResponse getStatus(String batchToken) {
+        CompletableFuture<?> response = this.cacheManager.get(CacheConfig.PRODUCE_BATCH_STATUS, batchToken, CompletableFuture.class);
+        if (response == null) {
+            throw new ProxyException(Errors.PRODUCE_BATCH_NOT_FOUND);
+        }
+
+        // 브로커 응답 대기 중
+        if (!response.isDone()) {
+            return new ProduceBatchStatusResponse(batchToken, Status.PENDING, null, null, null, null, null);
+        }
+
+        try {
+            ProduceResponse result = (ProduceResponse) response.join();
+            return new ProduceBatchStatusResponse(
+                batchToken, Status.COMPLETED, result.getOffsets(), result.getKeySchemaId(), result.getValueSchemaId(), null, null);
+
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            Errors error = cause instanceof ProxyException ? ((ProxyException) cause).getErrors() : Errors.UNEXPECTED_NON_KAFKA_ERROR;
+            return new ProduceBatchStatusResponse(
+                batchToken, Status.FAILED, null, null, null, error.code(), cause.getMessage());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package proxy.infra.kafka;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import proxy.common.config.KafkaRestConfig;
+import proxy.common.exception.ProxyException;
+import proxy.common.exception.resource.Errors;
+import proxy.infra.kafka.worker.ConsumerInstanceId;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <pre>
+ * Apache kafka consumer pool 자원 한도 관리
+ * - 노드별 최대 인스턴스 수, 컨슈머 그룹별 최대 인스턴스 수, 노드별 최대 버퍼 바이트 수 한도 내에서만 인스턴스 생성 허용
+ * - 버퍼 바이트 수는 인스턴스가 메모리에 보관할 수 있는 최대 크기로 추정 (fetch.max.bytes + 프리패치 최대 바이트 수)
+ * - 컨슈머 생성 전 자원을 예약하고, 컨슈머 풀에서 제거될 때 반환
+ * </pre>
+ */
+@Component
+@Slf4j
+public class ConsumerAdmissionController implements SmartInitializingSingleton {
+
+    private static final String METRIC_PREFIX = "kafka.rest.consumer.pool.";
+
+    @Autowired
+    private KafkaRestConfig kafkaRestConfig;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 예약된 인스턴스 수
+    private final AtomicInteger instances = new AtomicInteger();
+    // 예약된 버퍼 바이트 수
+    private final AtomicLong bufferedBytes = new AtomicLong();
+    // 컨슈머 그룹별 예약된 인스턴스 수
+    private final Map<String, Integer> groupInstances = new HashMap<>();
+    // 인스턴스별 예약된 버퍼 바이트 수
+    private final Map<ConsumerInstanceId, Long> reservations = new HashMap<>();
+
+    /**
+     * 자원 사용량 메트릭 등록
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        Gauge.builder(METRIC_PREFIX + "instances", instances, AtomicInteger::get)
+            .description("Number of consumer instances admitted on this node")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "instances.max", kafkaRestConfig, KafkaRestConfig::getConsumerPoolMaxInstances)
+            .description("Maximum number of consumer instances on this node")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "buffered.bytes", bufferedBytes, AtomicLong::get)
+            .description("Potential buffered bytes reserved by admitted consumer instances")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "buffered.bytes.max", kafkaRestConfig, KafkaRestConfig::getConsumerPoolMaxBufferedBytes)
+            .description("Maximum potential buffered bytes for consumer instances on this node")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 인스턴스 생성에 필요한 자원 예약
+     * @param consumerId    // 컨슈머 인스턴스ID
+     * @param instanceBytes // 인스턴스가 메모리에 보관할 수 있는 최대 바이트 수
+     * @throws ProxyException 이미 존재하는 인스턴스이거나, 자원 한도를 초과한 경우
+     */
+    public synchronized void reserve(ConsumerInstanceId consumerId, long instanceBytes) {
+        // 이미 존재하는 인스턴스인 경우
+        if (reservations.containsKey(consumerId)) {
+            throw new ProxyException(Errors.CONSUMER_ALREADY_EXISTS);
+        }
+
+        // 노드별 최대 인스턴스 수 초과
+        int maxInstances = kafkaRestConfig.getConsumerPoolMaxInstances();
+        if (instances.get() >= maxInstances) {
+            throw new ProxyException(Errors.NO_CONSUMER_POOL_RESOURCES, String.format(
+                "Consumer instance limit per node (%d) reached.", maxInstances));
+        }
+
+        // 컨슈머 그룹별 최대 인스턴스 수 초과
+        int maxGroupInstances = kafkaRestConfig.getConsumerPoolMaxInstancesPerGroup();
+        int currGroupInstances = groupInstances.getOrDefault(consumerId.getGroup(), 0);
+        if (currGroupInstances >= maxGroupInstances) {
+            throw new ProxyException(Errors.NO_CONSUMER_POOL_RESOURCES, String.format(
+                "Consumer instance limit per group (%d) reached for group %s.", maxGroupInstances, consumerId.getGroup()));
+        }
+
+        // 노드별 최대 버퍼 바이트 수 초과
+        long maxBufferedBytes = kafkaRestConfig.getConsumerPoolMaxBufferedBytes();
+        if (bufferedBytes.get() + instanceBytes > maxBufferedBytes) {
+            throw new ProxyException(Errors.NO_CONSUMER_POOL_RESOURCES, String.format(
+                "Consumer buffer budget exhausted: %d of %d bytes reserved, %d bytes requested. Lower fetch.max.bytes or the prefetch buffer size.",
+                bufferedBytes.get(), maxBufferedBytes, instanceBytes));
+        }
+
+        reservations.put(consumerId, instanceBytes);
+        groupInstances.put(consumerId.getGroup(), currGroupInstances + 1);
+        instances.incrementAndGet();
+        bufferedBytes.addAndGet(instanceBytes);
+    }
+
+    /**
+     * 인스턴스에 예약된 자원 반환
+     * @param consumerId // 컨슈머 인스턴스ID
+     */
+    public synchronized void release(ConsumerInstanceId consumerId) {
+        Long instanceBytes = reservations.remove(consumerId);
+
+        // 예약된 자원이 없는 경우, 종료
+        if (instanceBytes == null) return;
+
+        groupInstances.computeIfPresent(consumerId.getGroup(), (group, count) -> count > 1 ? count - 1 : null);
+        instances.decrementAndGet();
+        bufferedBytes.addAndGet(-instanceBytes);
+    }
+}
@@ -0,0 +1,42 @@
+package proxy.infra.kafka;
+
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+import proxy.infra.kafka.worker.ConsumerWorker;
+import lombok.Getter;
+
+/**
+ * <pre>
+ * 컨슈머 인스턴스 만료/휴면 큐 항목
+ * - 등록 시점의 기한까지 지연되며, 인스턴스가 그 사이 사용된 경우 스케쥴러가 갱신된 기한으로 다시 등록함
+ * </pre>
+ */
+@Getter
+public class ConsumerExpiration implements Delayed {
+
+    private final ConsumerWorker<?, ?, ?, ?> consumer; // 컨슈머 인스턴스
+    private final long deadline;                      // 등록 시점의 기한 (epoch ms)
+
+    public ConsumerExpiration(ConsumerWorker<?, ?, ?, ?> consumer) {
+        this(consumer, consumer.getExpiration());
+    }
+
+    public ConsumerExpiration(ConsumerWorker<?, ?, ?, ?> consumer, long deadline) {
+        this.consumer = consumer;
+        this.deadline = deadline;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(deadline - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        if (other instanceof ConsumerExpiration) {
+            return Long.compare(deadline, ((ConsumerExpiration) other).deadline);
+        }
+        return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+    }
+}
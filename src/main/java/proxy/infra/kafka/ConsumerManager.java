@@ -1,8 +1,12 @@
 package proxy.infra.kafka;
 
+import java.time.Duration;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,8 +18,12 @@ import org.springframework.util.ObjectUtils;
 import proxy.common.config.KafkaRestConfig;
 import proxy.common.exception.ProxyException;
 import proxy.common.exception.resource.Errors;
+import proxy.infra.kafka.task.ConsumerReadExecutor;
+import proxy.infra.kafka.task.ConsumerReadScheduler;
 import proxy.infra.kafka.worker.ConsumerInstanceId;
 import proxy.infra.kafka.worker.ConsumerWorker;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -31,13 +39,33 @@ public class ConsumerManager implements SmartInitializingSingleton {
     @Autowired
     private KafkaRestConfig kafkaRestConfig;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ConsumerAdmissionController admissionController;
+
+    /* consumer 인스턴스 종료 작업 실행 스레드 풀 (고정 크기, 종료가 느려도 스레드가 늘어나지 않음) */
     private ExecutorService executor;
 
+    /* consumer 인스턴스 만료 큐 (만료 시각 순) */
+    private final DelayQueue<ConsumerExpiration> expirationQueue = new DelayQueue<>();
+
+    /* consumer 인스턴스 휴면 큐 (마지막 사용 시각 + 휴면 대기 시간 순) */
+    private final DelayQueue<ConsumerExpiration> hibernationQueue = new DelayQueue<>();
+
+    /* consumer read task 실행 스레드 풀 (실행/대기 작업 수 제한) */
+    private ConsumerReadExecutor readExecutor;
+
+    /* consumer read task 재실행 스케줄러 */
+    private ConsumerReadScheduler readScheduler;
+
+    /* consumer 백그라운드 프리패치 실행 스레드 풀 */
+    private ScheduledExecutorService prefetchExecutor;
+
     /* key = instance id, value = consumer instance */
     private ConcurrentHashMap<ConsumerInstanceId, ConsumerWorker<?, ?, ?, ?>> consumerPool;
 
-    private final int CONSUMER_POOL_LIMIT = 25;
-
     /**
      * Consumer pool 초기화
      * @return
@@ -51,30 +79,96 @@ public class ConsumerManager implements SmartInitializingSingleton {
 
         // executor init
         if (ObjectUtils.isEmpty(executor)) {
-            executor = Executors.newCachedThreadPool();
+            AtomicInteger threadIndex = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(kafkaRestConfig.getConsumerCloseThreads(), runnable -> {
+                Thread thread = new Thread(runnable, "consumer-closer-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        // read executor init
+        if (ObjectUtils.isEmpty(readExecutor)) {
+            readExecutor = new ConsumerReadExecutor(
+                kafkaRestConfig.getConsumerReadParallelism(),
+                kafkaRestConfig.getConsumerReadQueueCapacity(),
+                kafkaRestConfig.isConsumerReadVirtualThreads(),
+                meterRegistry);
+        }
+
+        // read scheduler init
+        if (ObjectUtils.isEmpty(readScheduler)) {
+            readScheduler = new ConsumerReadScheduler(
+                readExecutor,
+                Duration.ofMillis(kafkaRestConfig.getConsumerReadBackoffMs()),
+                Duration.ofMillis(kafkaRestConfig.getConsumerReadPollTimeoutMs()));
+        }
+
+        // prefetch executor init
+        if (ObjectUtils.isEmpty(prefetchExecutor)) {
+            AtomicInteger threadIndex = new AtomicInteger();
+            prefetchExecutor = Executors.newScheduledThreadPool(kafkaRestConfig.getConsumerPrefetchThreads(), runnable -> {
+                Thread thread = new Thread(runnable, "consumer-prefetch-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * 읽기 작업 스케줄러, 스레드 풀 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        // 재실행 스케줄러를 먼저 종료하여, 종료된 스레드 풀에 읽기 작업이 제출되지 않도록 함
+        if (readScheduler != null) {
+            readScheduler.shutdown();
+        }
+        if (readExecutor != null) {
+            readExecutor.shutdown();
+        }
+        if (prefetchExecutor != null) {
+            prefetchExecutor.shutdownNow();
+        }
+        // 제출된 컨슈머 종료 작업은 완료
+        if (executor != null) {
+            executor.shutdown();
         }
     }
 
     /**
+     * <pre>
      * add consumer instance to pool
+     * - 인스턴스 자원은 {@link ConsumerAdmissionController#reserve}로 미리 예약되어 있어야 함
+     * </pre>
      * @param consumerId // pool key
      * @param consumer   // pool value
      */
     public void addConsumer(ConsumerInstanceId consumerId, ConsumerWorker<?, ?, ?, ?> consumer) {
-        synchronized (consumerPool) {
-            // 컨슈머 풀이 가득 찬 상태인 경우, 예외 반환
-            if (consumerPool.size() >= CONSUMER_POOL_LIMIT) {
-                throw new ProxyException(Errors.NO_CONSUMER_POOL_RESOURCES);
-            }
-
-            // 컨슈머 풀에 이미 존재하는 인스턴스인 경우, 예외 반환
-            if (consumerPool.containsKey(consumerId)) {
-                throw new ProxyException(Errors.CONSUMER_ALREADY_EXISTS);
-            } else {
-                log.info("Add consumer [" + consumerId.getInstance() + "] in group [" + consumerId.getGroup() + "] in consumer pool");
-                // 컨슈머 풀에 추가
-                consumerPool.put(consumerId, consumer);
-            }
+        // 컨슈머 풀에 추가 (이미 존재하는 인스턴스인 경우, 예외 반환)
+        if (consumerPool.putIfAbsent(consumerId, consumer) != null) {
+            throw new ProxyException(Errors.CONSUMER_ALREADY_EXISTS);
+        }
+
+        log.info("Add consumer [" + consumerId.getInstance() + "] in group [" + consumerId.getGroup() + "] in consumer pool");
+        consumer.activate();
+
+        // 만료 큐에 등록
+        expirationQueue.add(new ConsumerExpiration(consumer));
+
+        // 휴면 사용 시, 휴면 큐에 등록
+        if (kafkaRestConfig.getConsumerHibernateIdleMs() > 0) {
+            hibernationQueue.add(new ConsumerExpiration(
+                consumer, consumer.getLastAccess() + kafkaRestConfig.getConsumerHibernateIdleMs()));
+        }
+
+        // 프리패치 사용 인스턴스인 경우, 백그라운드 프리패치 시작
+        if (Boolean.TRUE.equals(consumer.getConsumerInstanceConfig().getPrefetchEnable())) {
+            consumer.startPrefetch(
+                prefetchExecutor,
+                Duration.ofMillis(kafkaRestConfig.getConsumerPrefetchIntervalMs()),
+                kafkaRestConfig.getConsumerPrefetchMaxRecords(),
+                kafkaRestConfig.getConsumerPrefetchMaxBytes());
         }
     }
 
@@ -84,8 +178,10 @@ public class ConsumerManager implements SmartInitializingSingleton {
      * @return
      */
     public ConsumerWorker<?, ?, ?, ?> getConsumer(ConsumerInstanceId consumerId) {
-        // 컨슈머 풀에 해당 인스턴스가 없는 경우, null 반환
-        return consumerPool.get(consumerId);
+        ConsumerWorker<?, ?, ?, ?> consumer = consumerPool.get(consumerId);
+
+        // 컨슈머 풀에 해당 인스턴스가 없거나 사용 가능한 상태가 아닌 경우, null 반환
+        return (consumer != null && consumer.isActive()) ? consumer : null;
     }
 
     /**
@@ -94,10 +190,47 @@ public class ConsumerManager implements SmartInitializingSingleton {
      * @return
      */
     public ConsumerWorker<?, ?, ?, ?> removeConsumer(ConsumerInstanceId consumerId) {
-        synchronized (consumerPool) {
-            log.info("Remove consumer [" + consumerId.getInstance() + "] in group [" + consumerId.getGroup() + "] from consumer pool");
-            // 컨슈머 풀에 해당 인스턴스가 없는 경우, null 반환
-            return consumerPool.remove(consumerId);
+        ConsumerWorker<?, ?, ?, ?> consumer = consumerPool.remove(consumerId);
+
+        // 컨슈머 풀에 해당 인스턴스가 없는 경우, null 반환
+        if (consumer == null) {
+            return null;
+        }
+
+        return onRemoved(consumerId, consumer);
+    }
+
+    /**
+     * <pre>
+     * remove the given consumer instance from pool
+     * - 풀에 등록된 인스턴스가 주어진 인스턴스인 경우에만 제거
+     *   (만료 확인 후 같은 이름으로 다시 생성된 인스턴스를 제거하지 않도록 함)
+     * </pre>
+     * @param consumerId // pool key
+     * @param consumer   // 제거할 인스턴스
+     * @return 제거 후 종료해야 할 인스턴스 (제거하지 못했거나 이미 종료 중인 경우 null)
+     */
+    public ConsumerWorker<?, ?, ?, ?> removeConsumer(ConsumerInstanceId consumerId, ConsumerWorker<?, ?, ?, ?> consumer) {
+        // 컨슈머 풀에 해당 인스턴스가 없는 경우, null 반환
+        if (!consumerPool.remove(consumerId, consumer)) {
+            return null;
         }
+
+        return onRemoved(consumerId, consumer);
+    }
+
+    /**
+     * 컨슈머 풀에서 제거된 인스턴스의 예약 자원 반환
+     * @param consumerId // pool key
+     * @param consumer   // 제거된 인스턴스
+     * @return 제거 후 종료해야 할 인스턴스 (이미 종료 중인 경우 null)
+     */
+    private ConsumerWorker<?, ?, ?, ?> onRemoved(ConsumerInstanceId consumerId, ConsumerWorker<?, ?, ?, ?> consumer) {
+        log.info("Remove consumer [" + consumerId.getInstance() + "] in group [" + consumerId.getGroup() + "] from consumer pool");
+        // 인스턴스에 예약된 자원 반환
+        admissionController.release(consumerId);
+
+        // 다른 요청에 의해 이미 종료 중인 인스턴스인 경우, null 반환
+        return consumer.markClosing() ? consumer : null;
     }
 }
@@ -0,0 +1,196 @@
+package proxy.infra.kafka;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import proxy.common.config.KafkaRestConfig;
+import proxy.common.exception.ProxyException;
+import proxy.common.exception.resource.Errors;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * <pre>
+ * 프로듀싱 in-flight 한도 관리
+ * - 노드별, 토픽별로 브로커 응답을 기다리는 레코드 수, 바이트 수 한도 내에서만 프로듀싱 허용
+ * - 한도 초과 시 {@link Errors#PRODUCE_INFLIGHT_LIMIT_EXCEEDED} 예외로 즉시 거부 (프로듀서 버퍼가 가득 차 요청 스레드가 max.block.ms 동안 대기하지 않도록 함)
+ * - 레코드 수는 직렬화 전에, 바이트 수는 직렬화 후 전송 전에 예약하고, 레코드별 브로커 응답 수신 시 반환
+ * - 예약된 양이 없는 경우에는 한도보다 큰 요청도 허용 (재시도해도 성공할 수 없는 요청이 계속 거부되지 않도록 함)
+ * - 한도가 0 이하인 항목은 제한하지 않음
+ * </pre>
+ */
+@Component
+public class ProduceAdmissionController implements SmartInitializingSingleton {
+
+    private static final String METRIC_PREFIX = "kafka.rest.produce.inflight.";
+
+    @Autowired
+    private KafkaRestConfig kafkaRestConfig;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 예약된 레코드 수
+    private final AtomicLong records = new AtomicLong();
+    // 예약된 바이트 수
+    private final AtomicLong bytes = new AtomicLong();
+    // 토픽별 예약된 레코드 수, 바이트 수
+    private final Map<String, Usage> topics = new HashMap<>();
+
+    // 한도 초과로 거부된 요청 수
+    private Counter rejected;
+
+    /**
+     * 한도 사용량 메트릭 등록
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        Gauge.builder(METRIC_PREFIX + "records", records, AtomicLong::get)
+            .description("Number of produced records waiting for acknowledgement on this node")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "records.max", kafkaRestConfig, KafkaRestConfig::getProducerInflightMaxRecords)
+            .description("Maximum number of in-flight produced records on this node")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "bytes", bytes, AtomicLong::get)
+            .description("Serialized bytes of produced records waiting for acknowledgement on this node")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "bytes.max", kafkaRestConfig, KafkaRestConfig::getProducerInflightMaxBytes)
+            .description("Maximum in-flight produced bytes on this node")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        this.rejected = Counter.builder(METRIC_PREFIX + "rejected")
+            .description("Number of produce requests rejected by the in-flight budget")
+            .register(meterRegistry);
+    }
+
+    /**
+     * <pre>
+     * 직렬화 전, 레코드 수 예약
+     * - 예약된 바이트 수가 이미 한도에 도달한 경우에도 거부
+     * - 예약된 레코드가 없는 경우에는 한도보다 큰 요청도 허용
+     * </pre>
+     * @param topicName   // 토픽명
+     * @param recordCount // 요청 레코드 수
+     * @throws ProxyException 한도를 초과한 경우
+     */
+    public synchronized void reserveRecords(String topicName, int recordCount) {
+        Usage usage = topics.get(topicName);
+        long topicRecords = usage == null ? 0 : usage.records;
+        long topicBytes = usage == null ? 0 : usage.bytes;
+
+        // 노드별 최대 레코드 수, 바이트 수 초과
+        long maxRecords = kafkaRestConfig.getProducerInflightMaxRecords();
+        if (records.get() > 0 && exceeds(records.get(), recordCount, maxRecords)) {
+            throw reject(String.format(
+                "In-flight record limit per node (%d) reached: %d in flight, %d requested.", maxRecords, records.get(), recordCount));
+        }
+        long maxBytes = kafkaRestConfig.getProducerInflightMaxBytes();
+        if (maxBytes > 0 && bytes.get() >= maxBytes) {
+            throw reject(String.format(
+                "In-flight byte limit per node (%d) reached.", maxBytes));
+        }
+
+        // 토픽별 최대 레코드 수, 바이트 수 초과
+        long maxTopicRecords = kafkaRestConfig.getProducerInflightMaxRecordsPerTopic();
+        if (topicRecords > 0 && exceeds(topicRecords, recordCount, maxTopicRecords)) {
+            throw reject(String.format(
+                "In-flight record limit per topic (%d) reached for topic %s: %d in flight, %d requested.",
+                maxTopicRecords, topicName, topicRecords, recordCount));
+        }
+        long maxTopicBytes = kafkaRestConfig.getProducerInflightMaxBytesPerTopic();
+        if (maxTopicBytes > 0 && topicBytes >= maxTopicBytes) {
+            throw reject(String.format(
+                "In-flight byte limit per topic (%d) reached for topic %s.", maxTopicBytes, topicName));
+        }
+
+        topics.computeIfAbsent(topicName, topic -> new Usage()).records += recordCount;
+        records.addAndGet(recordCount);
+    }
+
+    /**
+     * <pre>
+     * 직렬화 후 전송 전, 바이트 수 예약
+     * - 한도를 초과하는 경우, 요청의 레코드 수 예약까지 반환 후 거부
+     * - 예약된 바이트가 없는 경우에는 한도보다 큰 요청도 허용 (한도보다 큰 요청이 계속 거부되지 않도록 함)
+     * </pre>
+     * @param topicName   // 토픽명
+     * @param recordCount // 요청 레코드 수
+     * @param byteCount   // 직렬화된 요청 바이트 수
+     * @throws ProxyException 한도를 초과한 경우
+     */
+    public synchronized void reserveBytes(String topicName, int recordCount, long byteCount) {
+        Usage usage = topics.computeIfAbsent(topicName, topic -> new Usage());
+
+        long maxBytes = kafkaRestConfig.getProducerInflightMaxBytes();
+        long maxTopicBytes = kafkaRestConfig.getProducerInflightMaxBytesPerTopic();
+        if ((bytes.get() > 0 && exceeds(bytes.get(), byteCount, maxBytes))
+                || (usage.bytes > 0 && exceeds(usage.bytes, byteCount, maxTopicBytes))) {
+            release(topicName, recordCount, 0);
+            throw reject(String.format(
+                "In-flight byte limit reached for topic %s: %d bytes in flight on node, %d bytes in flight on topic, %d bytes requested.",
+                topicName, bytes.get(), usage.bytes, byteCount));
+        }
+
+        usage.bytes += byteCount;
+        bytes.addAndGet(byteCount);
+    }
+
+    /**
+     * 브로커 응답 수신 또는 전송 실패 시, 예약된 레코드 수, 바이트 수 반환
+     * @param topicName   // 토픽명
+     * @param recordCount // 반환할 레코드 수
+     * @param byteCount   // 반환할 바이트 수
+     */
+    public synchronized void release(String topicName, int recordCount, long byteCount) {
+        Usage usage = topics.get(topicName);
+
+        // 예약된 자원이 없는 경우, 종료
+        if (usage == null) return;
+
+        usage.records -= recordCount;
+        usage.bytes -= byteCount;
+        if (usage.records <= 0 && usage.bytes <= 0) {
+            topics.remove(topicName);
+        }
+
+        records.addAndGet(-recordCount);
+        bytes.addAndGet(-byteCount);
+    }
+
+    /**
+     * 한도 초과 여부 (한도가 0 이하인 경우, 제한 없음)
+     * @param current   // 예약된 양
+     * @param requested // 요청한 양
+     * @param max       // 한도
+     * @return
+     */
+    private static boolean exceeds(long current, long requested, long max) {
+        return max > 0 && current + requested > max;
+    }
+
+    /**
+     * 한도 초과 예외 생성
+     * @param detailMessage
+     * @return
+     */
+    private ProxyException reject(String detailMessage) {
+        if (rejected != null) rejected.increment();
+        return new ProxyException(Errors.PRODUCE_INFLIGHT_LIMIT_EXCEEDED, detailMessage);
+    }
+
+    /**
+     * 토픽별 예약된 레코드 수, 바이트 수
+     */
+    private static class Usage {
+
+        private long records;
+        private long bytes;
+    }
+}
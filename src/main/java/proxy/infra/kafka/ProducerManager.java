@@ -1,29 +1,39 @@
 package proxy.infra.kafka;
 
 import java.time.Instant;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
-import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
 
 import com.google.common.collect.Multimap;
 import com.google.protobuf.ByteString;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import proxy.common.config.KafkaClientConfig;
+import proxy.common.config.KafkaRestConfig;
+import proxy.common.config.ProducerProfileConfig;
+import proxy.common.config.ProducerProfileConfig.ProducerProfile;
+import proxy.common.exception.ProxyException;
+import proxy.common.exception.resource.Errors;
 import proxy.infra.kafka.result.ProduceResult;
 import proxy.infra.kafka.worker.ProducerWorker;
 import lombok.extern.slf4j.Slf4j;
 
 /*
  * Apache kafka producer pool 관리
+ * - 기본 프로파일과 kafka-rest.yml 에 정의된 프로파일(producer.profiles)별로 producer pool 생성
+ * - 프로파일은 요청 헤더(X-Producer-Profile) > 토픽별 매핑(producer.topic-profiles) > 기본 프로파일 순으로 선택
+ * - 프로파일별 producer pool은 producer.pool.size 개의 프로듀서를 사용하며, 라우팅 방식(producer.pool.routing)에 따라 레코드를 분배
+ * - 연속 전송 실패로 서킷이 열린 프로듀서는 supervisor가 백그라운드에서 복구 (producer.circuit.*)
  */
 @Component
 @Scope(value = ConfigurableBeanFactory.SCOPE_SINGLETON)
@@ -33,44 +43,105 @@ public class ProducerManager implements SmartInitializingSingleton {
     @Autowired
     private KafkaClientConfig kafkaClientConfig;
 
+    @Autowired
+    private KafkaRestConfig kafkaRestConfig;
+
+    @Autowired
+    private ProducerProfileConfig producerProfileConfig;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private final String KAFKA_REST_PROXY_PRODUCER = "producer";
 
-    private static Map<String, ProducerWorker> producerPool = null;
+    // 기본 프로파일명
+    public static final String DEFAULT_PROFILE = "default";
+
+    /* key = 프로파일명, value = producer pool */
+    private final Map<String, ProducerPool> producerPools = new ConcurrentHashMap<>();
+
+    // 프로듀서 복구 관리
+    private ProducerSupervisor supervisor;
 
     /**
      * producer pool 초기화
      */
     @Override
     public void afterSingletonsInstantiated() {
-        // pool init
-        if (ObjectUtils.isEmpty(producerPool)) {
-            producerPool = new HashMap<>();
+        ProducerRouting routing = ProducerRouting.fromConfig(this.kafkaRestConfig.getProducerPoolRouting());
+        this.supervisor = new ProducerSupervisor(
+            this.kafkaRestConfig.getProducerCircuitFailureThreshold(),
+            this.kafkaRestConfig.getProducerCircuitRecoveryBackoffMs(),
+            this.kafkaRestConfig.getProducerCircuitRecoveryMaxBackoffMs(),
+            this.kafkaRestConfig.getProducerCircuitWarmUpTopic());
+
+        // 기본 프로파일 (default 프로파일이 설정된 경우, 해당 설정값 적용)
+        ProducerProfile defaultProfile = this.producerProfileConfig.getProfiles().get(DEFAULT_PROFILE);
+        producerPools.computeIfAbsent(DEFAULT_PROFILE, name -> this.createProducerPool(name, defaultProfile, routing));
+
+        // 설정된 프로파일
+        for (Map.Entry<String, ProducerProfile> entry : this.producerProfileConfig.getProfiles().entrySet()) {
+            producerPools.computeIfAbsent(entry.getKey(), name -> this.createProducerPool(name, entry.getValue(), routing));
         }
+    }
+
+    /**
+     * 프로파일별 producer pool 생성 (client.id = 접두어 + producer-프로파일명-번호)
+     * @param name    // 프로파일명
+     * @param profile // 프로파일 설정값 (기본 프로파일인 경우 null)
+     * @param routing // 레코드 분배 방식
+     * @return
+     */
+    private ProducerPool createProducerPool(String name, ProducerProfile profile, ProducerRouting routing) {
+        int size = profile != null && profile.getPoolSize() != null
+            ? profile.getPoolSize()
+            : this.kafkaRestConfig.getProducerPoolSize();
 
-        // producer init
-        if (ObjectUtils.isEmpty(producerPool.get(KAFKA_REST_PROXY_PRODUCER))) {
+        return new ProducerPool(name, size, routing, index -> {
             // producer configs
-            var props = this.kafkaClientConfig.getProducerConfig(KAFKA_REST_PROXY_PRODUCER);
+            var props = this.kafkaClientConfig.getProducerConfig(KAFKA_REST_PROXY_PRODUCER + "-" + name + "-" + index, profile);
             props = this.kafkaClientConfig.addSecurityConfig(props);
 
-            producerPool.put(KAFKA_REST_PROXY_PRODUCER, new ProducerWorker(props));
+            return new ProducerWorker(props, meterRegistry);
+        }, this.supervisor, meterRegistry);
+    }
+
+    /**
+     * 프로듀싱에 사용할 producer pool 조회
+     * @param profile   // 요청 헤더의 프로파일명 (없는 경우, 토픽별 매핑 또는 기본 프로파일)
+     * @param topicName // 토픽명
+     * @return
+     * @throws ProxyException 존재하지 않는 프로파일인 경우
+     */
+    public ProducerPool getProducerPool(String profile, String topicName) {
+        String name = StringUtils.hasText(profile)
+            ? profile
+            : this.producerProfileConfig.getTopicProfiles().getOrDefault(topicName, DEFAULT_PROFILE);
+
+        ProducerPool pool = producerPools.get(name);
+        if (pool == null) {
+            throw new ProxyException(Errors.PRODUCER_PROFILE_NOT_FOUND, String.format("Producer profile '%s' is not configured.", name));
         }
+
+        return pool;
     }
 
     /**
-     * producer stop
+     * producer stop (서버 셧다운 시)
      */
+    @PreDestroy
     public void closeAll() {
-        for (Entry<String, ProducerWorker> entry : producerPool.entrySet()) {
-            if (!ObjectUtils.isEmpty(entry.getValue()))
-                entry.getValue().stop();
+        if (supervisor != null) {
+            supervisor.shutdown();
+        }
+
+        for (ProducerPool pool : producerPools.values()) {
+            pool.closeAll();
         }
-        
-        producerPool.clear();
     }
 
     /**
-     * 데이터 전송
+     * 데이터 전송 (토픽별 매핑 또는 기본 프로파일 사용)
      * @param clusterId   // 클러스터ID
      * @param topicName   // 토픽명
      * @param partitionId // 파티션ID
@@ -87,58 +158,8 @@ public class ProducerManager implements SmartInitializingSingleton {
             Optional<ByteString> key,
             Optional<ByteString> value,
             Instant timestamp) {
-        
-        // 프로듀서 조회
-        var client = producerPool.get(KAFKA_REST_PROXY_PRODUCER);
-        CompletableFuture<ProduceResult> result = new CompletableFuture<>();
-        try {
-            // 프로듀서가 존재하지 않는 경우, 재시작
-            client = this.restartProducer(client);
-            // 데이터 프로듀싱
-            result = client.produce(clusterId, topicName, partitionId, headers, key, value, timestamp);
-        } catch (InterruptedException e) {
-            log.error("", e);
-            Thread.currentThread().interrupt();
-        }
-
-        return result;
-    }
-
-    /**
-     * producer=null 인 경우, 재시작
-     * @param client
-     * @return {@link ProducerWorker}
-     * @throws InterruptedException
-     */
-    private ProducerWorker restartProducer(ProducerWorker client) throws InterruptedException {
-        if (client == null) {
-            this.removeProducerWorker(KAFKA_REST_PROXY_PRODUCER);
-            afterSingletonsInstantiated();
-            log.warn("Proxy data producer is restarting");
-            Thread.sleep(10000l);
-            client = producerPool.get(KAFKA_REST_PROXY_PRODUCER);
-        }
-
-        return client;
-    }
 
-    /**
-     * 프로듀서 워커 정지 및 삭제
-     * @param key
-     */
-    private void removeProducerWorker(String key) {
-        var client = producerPool.get(key);
-        if (client != null) {
-            client.stop();
-            producerPool.remove(key);
-
-            try {
-                Thread.sleep(10000l);
-            } catch (InterruptedException e) {
-                log.error("", e);
-                Thread.currentThread().interrupt();
-            }
-        }
+        return this.getProducerPool(null, topicName)
+            .produce(clusterId, topicName, partitionId, headers, key, value, timestamp);
     }
 }
-
@@ -0,0 +1,369 @@
+package proxy.infra.kafka;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.errors.DisconnectException;
+import org.apache.kafka.common.utils.Utils;
+
+import com.google.common.collect.Multimap;
+import com.google.protobuf.ByteString;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import proxy.common.exception.ProxyException;
+import proxy.common.exception.resource.Errors;
+import proxy.infra.kafka.result.ProduceResult;
+import proxy.infra.kafka.worker.ProducerWorker;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <pre>
+ * 프로듀서 프로파일별 producer pool
+ * - 프로듀서 수만큼 워커를 생성하고, 라우팅 방식에 따라 레코드를 분배
+ * - 프로파일별 전송 레코드 수, 바이트 수, 전송 ~ 응답 소요 시간 메트릭 제공 (profile 태그)
+ * - 프로듀서별 연속 전송 실패가 임계치에 도달하면 서킷을 열고 {@link ProducerSupervisor}가 복구 (복구 중인 프로듀서로 라우팅된 요청은 즉시 실패)
+ * - 키 기준 라우팅에 사용할 토픽별 파티션 수는 {@link ProducerSupervisor}가 백그라운드에서 조회, 갱신
+ * </pre>
+ */
+@Slf4j
+public class ProducerPool {
+
+    private static final String METRIC_PREFIX = "kafka.rest.produce.";
+
+    @Getter
+    private final String profile;                 // 프로파일명
+    private final ProducerRouting routing;        // 레코드 분배 방식
+    @Getter
+    private final IntFunction<ProducerWorker> factory; // 프로듀서 번호별 워커 생성 함수
+    private final ProducerSupervisor supervisor;  // 프로듀서 복구 관리
+
+    /* index = 프로듀서 번호, value = 프로듀서 워커 (null 인 경우, 서킷이 열려 복구 중) */
+    private final AtomicReferenceArray<ProducerWorker> workers;
+    /* index = 프로듀서 번호, value = 연속 전송 실패 수 */
+    private final AtomicIntegerArray consecutiveFailures;
+    /* index = 프로듀서 번호, value = 마지막으로 전송한 토픽명 (복구 시 메타데이터 조회용) */
+    private final AtomicReferenceArray<String> lastTopics;
+
+    /* key = 토픽명, value = 파티션 수 (키 기준 라우팅용) */
+    private final ConcurrentHashMap<String, Integer> partitionCounts = new ConcurrentHashMap<>();
+    /* 파티션 수 조회 중인 토픽명 */
+    private final Set<String> refreshingTopics = ConcurrentHashMap.newKeySet();
+    // 토픽별 파티션 수 갱신 작업
+    private final ScheduledFuture<?> partitionRefresh;
+
+    private volatile boolean closed = false;
+
+    // ROUND_ROBIN 분배 시, 다음 프로듀서 번호
+    private final AtomicInteger nextProducer = new AtomicInteger();
+
+    private final Counter records;             // 전송 성공 레코드 수
+    private final Counter failures;            // 전송 실패 레코드 수
+    private final DistributionSummary bytes;   // 전송 레코드 크기 (키 + 값)
+    private final Timer latency;               // 전송 ~ 응답 소요 시간
+
+    /**
+     * @param profile  // 프로파일명
+     * @param size     // 프로듀서 수
+     * @param routing  // 레코드 분배 방식
+     * @param factory    // 프로듀서 번호별 워커 생성 함수
+     * @param supervisor // 프로듀서 복구 관리
+     * @param registry   // 메트릭 레지스트리
+     */
+    public ProducerPool(String profile, int size, ProducerRouting routing, IntFunction<ProducerWorker> factory,
+            ProducerSupervisor supervisor, MeterRegistry registry) {
+        this.profile = profile;
+        this.routing = routing;
+        this.factory = factory;
+        this.supervisor = supervisor;
+        this.workers = new AtomicReferenceArray<>(Math.max(1, size));
+        this.consecutiveFailures = new AtomicIntegerArray(workers.length());
+        this.lastTopics = new AtomicReferenceArray<>(workers.length());
+
+        for (int i = 0; i < workers.length(); i++) {
+            workers.set(i, factory.apply(i));
+        }
+
+        // 키 기준 라우팅을 사용하는 경우, 토픽별 파티션 수 주기적 갱신
+        this.partitionRefresh = workers.length() > 1 && routing != ProducerRouting.TOPIC
+            ? supervisor.schedulePartitionRefresh(this)
+            : null;
+
+        this.records = Counter.builder(METRIC_PREFIX + "records")
+            .description("Number of records acknowledged by Kafka")
+            .tag("profile", profile)
+            .register(registry);
+        this.failures = Counter.builder(METRIC_PREFIX + "errors")
+            .description("Number of records Kafka failed to acknowledge")
+            .tag("profile", profile)
+            .register(registry);
+        this.bytes = DistributionSummary.builder(METRIC_PREFIX + "bytes")
+            .description("Size of produced record keys and values")
+            .baseUnit("bytes")
+            .tag("profile", profile)
+            .register(registry);
+        this.latency = Timer.builder(METRIC_PREFIX + "latency")
+            .description("Time from send to acknowledgement by Kafka")
+            .tag("profile", profile)
+            .register(registry);
+        Gauge.builder(METRIC_PREFIX + "circuit.open", this, ProducerPool::countOpenCircuits)
+            .description("Number of producers whose circuit is open and are being recovered")
+            .tag("profile", profile)
+            .register(registry);
+
+        log.info("Proxy producer pool [{}] started (size = {}, routing = {})", profile, workers.length(), routing);
+    }
+
+    /**
+     * 데이터 전송
+     * @param clusterId   // 클러스터ID
+     * @param topicName   // 토픽명
+     * @param partitionId // 파티션ID
+     * @param headers     // 레코드 헤더값
+     * @param key         // 메시지 키
+     * @param value       // 메시지 값
+     * @param timestamp   // 프로듀싱 시작 시각
+     * @return
+     */
+    public CompletableFuture<ProduceResult> produce(
+            String clusterId,
+            String topicName,
+            Optional<Integer> partitionId,
+            Multimap<String, Optional<ByteString>> headers,
+            Optional<ByteString> key,
+            Optional<ByteString> value,
+            Instant timestamp) {
+
+        // 프로듀서 조회
+        int index = this.route(topicName, partitionId, key);
+        var client = workers.get(index);
+
+        // 서킷이 열린 경우 (복구 중), 재시도 가능한 오류로 즉시 실패
+        if (client == null) {
+            failures.increment();
+            return CompletableFuture.failedFuture(new DisconnectException(
+                String.format("Producer %d of profile '%s' is recovering.", index, profile)));
+        }
+        lastTopics.lazySet(index, topicName);
+
+        // 데이터 프로듀싱
+        long start = System.nanoTime();
+        CompletableFuture<ProduceResult> result = client.produce(clusterId, topicName, partitionId, headers, key, value, timestamp);
+
+        // 프로파일별 메트릭 기록, 연속 전송 실패 수 갱신
+        long size = key.map(ByteString::size).orElse(0) + value.map(ByteString::size).orElse(0);
+        result.whenComplete((produced, e) -> {
+            latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (e != null) {
+                failures.increment();
+                this.onProducerFailure(index, client, e);
+            } else {
+                records.increment();
+                bytes.record(size);
+                consecutiveFailures.set(index, 0);
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * <pre>
+     * 프로듀싱 가능 여부 확인 (직렬화 전에 호출)
+     * - 토픽별 라우팅인 경우 토픽의 프로듀서, 그 외에는 모든 프로듀서의 서킷이 열린 경우 실패
+     * </pre>
+     * @param topicName // 토픽명
+     * @throws ProxyException 서킷이 열려 프로듀서를 복구 중인 경우
+     */
+    public void ensureAvailable(String topicName) {
+        boolean available = routing == ProducerRouting.TOPIC || workers.length() == 1
+            ? workers.get(this.route(topicName, Optional.empty(), Optional.empty())) != null
+            : countOpenCircuits() < workers.length();
+
+        if (!available) {
+            throw new ProxyException(Errors.PRODUCER_UNAVAILABLE, String.format(
+                "Producer of profile '%s' for topic %s is recovering, retry later.", profile, topicName));
+        }
+    }
+
+    /**
+     * 마지막으로 전송한 토픽명 조회 (해당 프로듀서의 전송 이력이 없는 경우, pool 내 다른 프로듀서의 토픽)
+     * @param index // 프로듀서 번호
+     * @return 전송 이력이 없는 경우 null
+     */
+    public String getLastTopic(int index) {
+        String topicName = lastTopics.get(index);
+        for (int i = 0; topicName == null && i < lastTopics.length(); i++) {
+            topicName = lastTopics.get(i);
+        }
+        return topicName;
+    }
+
+    /**
+     * 복구된 프로듀서로 교체 (서킷 닫힘)
+     * @param index   // 프로듀서 번호
+     * @param created // 메타데이터 조회까지 완료된 프로듀서 워커
+     */
+    public void install(int index, ProducerWorker created) {
+        if (closed || !workers.compareAndSet(index, null, created)) {
+            created.stop();
+            return;
+        }
+
+        consecutiveFailures.set(index, 0);
+        log.info("Producer {} of profile [{}] recovered", index, profile);
+
+        // 교체 도중 pool이 종료된 경우
+        if (closed && workers.compareAndSet(index, created, null)) {
+            created.stop();
+        }
+    }
+
+    /**
+     * producer stop
+     */
+    public void closeAll() {
+        closed = true;
+        if (partitionRefresh != null) {
+            partitionRefresh.cancel(false);
+        }
+        for (int i = 0; i < workers.length(); i++) {
+            ProducerWorker worker = workers.getAndSet(i, null);
+            if (worker != null)
+                worker.stop();
+        }
+    }
+
+    /**
+     * 레코드를 전송할 프로듀서 번호 조회
+     * @param topicName   // 토픽명
+     * @param partitionId // 파티션ID
+     * @param key         // 메시지 키
+     * @return
+     */
+    private int route(String topicName, Optional<Integer> partitionId, Optional<ByteString> key) {
+        int size = workers.length();
+        if (size == 1) return 0;
+
+        int topicHash = topicName.hashCode();
+        if (routing == ProducerRouting.TOPIC) {
+            return Math.floorMod(topicHash, size);
+        }
+
+        // 같은 파티션의 레코드는 같은 프로듀서로 전송 (파티션 내 순서 유지)
+        if (partitionId.isPresent()) {
+            return Math.floorMod(31 * topicHash + partitionId.get(), size);
+        }
+        // 메시지 키만 있는 경우, 기본 파티셔너가 선택할 파티션 기준
+        if (key.isPresent()) {
+            Integer keyPartition = this.partitionForKey(topicName, key.get());
+            return keyPartition != null
+                ? Math.floorMod(31 * topicHash + keyPartition, size)
+                : Math.floorMod(31 * topicHash + key.get().hashCode(), size);
+        }
+
+        return routing == ProducerRouting.ROUND_ROBIN
+            ? Math.floorMod(nextProducer.getAndIncrement(), size)
+            : Math.floorMod(topicHash, size);
+    }
+
+    /**
+     * <pre>
+     * 기본 파티셔너가 메시지 키로 선택할 파티션 (murmur2(키) % 파티션 수)
+     * - 파티션 수는 백그라운드에서 조회한 값을 사용 (요청 스레드에서 메타데이터 조회를 대기하지 않음)
+     * - 파티션 수를 모르는 토픽인 경우, 조회를 요청하고 null 반환
+     * </pre>
+     * @param topicName // 토픽명
+     * @param key       // 메시지 키
+     * @return 파티션 수를 모르는 경우 null (이 경우 키의 hashCode 기준으로 라우팅)
+     */
+    private Integer partitionForKey(String topicName, ByteString key) {
+        Integer partitions = partitionCounts.get(topicName);
+        if (partitions == null) {
+            if (refreshingTopics.add(topicName)) {
+                supervisor.refreshPartitions(this, topicName);
+            }
+            return null;
+        }
+        return partitions > 0 ? Utils.toPositive(Utils.murmur2(key.toByteArray())) % partitions : null;
+    }
+
+    /**
+     * 토픽의 파티션 수 조회 (사용 가능한 프로듀서 중 메타데이터를 조회한 첫 번째 프로듀서 기준)
+     * @param topicName // 토픽명
+     */
+    void refreshPartitionCount(String topicName) {
+        try {
+            for (int i = 0; !closed && i < workers.length(); i++) {
+                ProducerWorker worker = workers.get(i);
+                if (worker == null) continue;
+
+                try {
+                    partitionCounts.put(topicName, worker.partitionCount(topicName));
+                    return;
+                } catch (KafkaException e) {
+                    // 다음 프로듀서로 조회
+                    log.debug("Failed to fetch partitions of topic {} with producer {} of profile [{}]", topicName, i, profile, e);
+                }
+            }
+        } finally {
+            refreshingTopics.remove(topicName);
+        }
+    }
+
+    /**
+     * 조회한 모든 토픽의 파티션 수 갱신
+     */
+    void refreshPartitionCounts() {
+        for (String topicName : partitionCounts.keySet()) {
+            if (closed) return;
+            refreshPartitionCount(topicName);
+        }
+    }
+
+    /**
+     * 전송 실패 시, 연속 실패 수가 임계치에 도달하면 서킷을 열고 복구 요청
+     * @param index  // 프로듀서 번호
+     * @param client // 전송에 사용한 프로듀서 워커
+     * @param e      // 전송 실패 예외
+     */
+    private void onProducerFailure(int index, ProducerWorker client, Throwable e) {
+        if (!ProducerSupervisor.isProducerFailure(e)) return;
+        if (consecutiveFailures.incrementAndGet(index) < supervisor.getFailureThreshold()) return;
+
+        // 이미 다른 요청이 서킷을 열었거나, 복구된 프로듀서로 교체된 경우 무시
+        if (closed || !workers.compareAndSet(index, client, null)) return;
+
+        log.warn("Circuit opened for producer {} of profile [{}] after {} consecutive failures",
+            index, profile, consecutiveFailures.get(index), e);
+        supervisor.recover(this, index, client);
+    }
+
+    /**
+     * 서킷이 열린 프로듀서 수
+     * @return
+     */
+    private int countOpenCircuits() {
+        if (closed) return 0;
+
+        int open = 0;
+        for (int i = 0; i < workers.length(); i++) {
+            if (workers.get(i) == null) open++;
+        }
+        return open;
+    }
+}
@@ -0,0 +1,26 @@
+package proxy.infra.kafka;
+
+/**
+ * <pre>
+ * producer pool 라우팅 방식
+ * - TOPIC      : 토픽별로 하나의 프로듀서 사용
+ * - PARTITION  : (토픽, 파티션ID) 별로 하나의 프로듀서 사용. 메시지 키만 있는 경우, 기본 파티셔너가 선택할 파티션(murmur2(키) % 파티션 수) 기준. 둘 다 없는 경우 토픽별
+ * - ROUND_ROBIN: PARTITION과 같으나, 파티션ID와 메시지 키가 모두 없는 경우 프로듀서를 순서대로 사용
+ * - 파티션ID 또는 메시지 키가 있는 레코드는 같은 파티션이면 항상 같은 프로듀서로 전송되므로, 파티션 내 순서가 유지됨
+ *   (프로파일에 partitioner.class 를 별도로 지정한 경우, 키 기준 레코드는 키별 순서만 유지됨)
+ * </pre>
+ */
+public enum ProducerRouting {
+    TOPIC,
+    PARTITION,
+    ROUND_ROBIN;
+
+    /**
+     * 설정값 -> 라우팅 방식 (topic, partition, round-robin)
+     * @param value
+     * @return
+     */
+    public static ProducerRouting fromConfig(String value) {
+        return valueOf(value.trim().toUpperCase().replace('-', '_'));
+    }
+}
@@ -0,0 +1,165 @@
+package proxy.infra.kafka;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.common.errors.ApiException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.springframework.util.StringUtils;
+
+import proxy.infra.kafka.worker.ProducerWorker;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <pre>
+ * Apache kafka producer supervisor (프로듀서별 circuit breaker)
+ * - 프로듀서 전송 실패가 연속으로 임계치에 도달하면 서킷을 열고(워커 제거), 백그라운드에서 프로듀서를 다시 생성
+ * - 새 프로듀서는 토픽 메타데이터를 조회한 후에 교체 (요청 스레드는 대기하지 않음)
+ *   (조회 토픽: 해당 프로듀서가 마지막으로 전송한 토픽 > pool 내 다른 프로듀서가 마지막으로 전송한 토픽 > producer.circuit.warm-up-topic)
+ * - 조회할 토픽이 없는 경우(전송 이력과 설정이 모두 없는 경우)에만, 생성 직후 교체
+ * - 복구에 실패한 경우, 백오프 시간을 두 배씩 늘리며 (최대 maxBackoffMs) 재시도
+ * - 키 기준 라우팅에 사용할 토픽별 파티션 수도 백그라운드에서 조회 (요청 스레드는 메타데이터 조회를 대기하지 않음)
+ * </pre>
+ */
+@Slf4j
+public class ProducerSupervisor {
+
+    // 토픽별 파티션 수 갱신 간격
+    private static final long PARTITION_REFRESH_INTERVAL_MS = 60_000L;
+
+    // 서킷을 여는 연속 전송 실패 수
+    @Getter
+    private final int failureThreshold;
+    // 복구 재시도 최초 대기 시간
+    private final long backoffMs;
+    // 복구 재시도 최대 대기 시간
+    private final long maxBackoffMs;
+    // 전송 이력이 없는 경우, 메타데이터를 조회할 토픽 (null: 없음)
+    private final String warmUpTopic;
+    // 프로듀서 복구, 종료, 파티션 수 조회 작업 스레드 풀
+    private final ScheduledExecutorService executor;
+
+    private volatile boolean closed = false;
+
+    /**
+     * @param failureThreshold // 서킷을 여는 연속 전송 실패 수
+     * @param backoffMs        // 복구 재시도 최초 대기 시간
+     * @param maxBackoffMs     // 복구 재시도 최대 대기 시간
+     * @param warmUpTopic      // 전송 이력이 없는 경우, 메타데이터를 조회할 토픽
+     */
+    public ProducerSupervisor(int failureThreshold, long backoffMs, long maxBackoffMs, String warmUpTopic) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.backoffMs = Math.max(1, backoffMs);
+        this.maxBackoffMs = Math.max(this.backoffMs, maxBackoffMs);
+        this.warmUpTopic = StringUtils.hasText(warmUpTopic) ? warmUpTopic : null;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newScheduledThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "producer-supervisor-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * <pre>
+     * 서킷 판단에 포함할 전송 실패 여부
+     * - 프로듀서 자체 오류(종료된 프로듀서, 펜싱 등)와 브로커 응답 시간 초과만 포함
+     * - 레코드 크기 초과 등 레코드별 오류는 제외
+     * </pre>
+     * @param e // 전송 실패 예외
+     * @return
+     */
+    public static boolean isProducerFailure(Throwable e) {
+        return !(e instanceof ApiException) || e instanceof TimeoutException;
+    }
+
+    /**
+     * 서킷이 열린 프로듀서 복구 요청
+     * @param pool   // producer pool
+     * @param index  // 프로듀서 번호
+     * @param failed // 제거된 프로듀서 워커
+     */
+    public void recover(ProducerPool pool, int index, ProducerWorker failed) {
+        if (closed) return;
+
+        // 제거된 프로듀서 종료 (남은 전송 완료 대기)
+        executor.execute(failed::stop);
+        executor.schedule(() -> attempt(pool, index, backoffMs), backoffMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 프로듀서 생성, 메타데이터 조회 후 교체 (실패 시, 백오프 후 재시도)
+     * @param pool      // producer pool
+     * @param index     // 프로듀서 번호
+     * @param backoffMs // 현재 백오프 시간
+     */
+    private void attempt(ProducerPool pool, int index, long backoffMs) {
+        if (closed) return;
+
+        ProducerWorker created = null;
+        try {
+            created = pool.getFactory().apply(index);
+
+            // 토픽 메타데이터 조회 (브로커 연결 확인)
+            String topicName = pool.getLastTopic(index);
+            if (topicName == null) topicName = warmUpTopic;
+            if (topicName != null) {
+                created.warmUp(topicName);
+            } else {
+                log.warn("No topic to warm up producer {} of profile [{}], installing without metadata", index, pool.getProfile());
+            }
+
+            pool.install(index, created);
+
+        } catch (RuntimeException e) {
+            long nextBackoffMs = Math.min(backoffMs * 2, maxBackoffMs);
+            log.warn("Failed to recover producer {} of profile [{}], retrying in {} ms", index, pool.getProfile(), nextBackoffMs, e);
+
+            if (created != null) {
+                created.stop();
+            }
+            if (!closed) {
+                executor.schedule(() -> attempt(pool, index, nextBackoffMs), nextBackoffMs, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * 토픽의 파티션 수 조회 요청 (파티션 수를 모르는 토픽으로 키 기준 라우팅 시)
+     * @param pool      // producer pool
+     * @param topicName // 토픽명
+     */
+    public void refreshPartitions(ProducerPool pool, String topicName) {
+        if (closed) return;
+
+        try {
+            executor.execute(() -> pool.refreshPartitionCount(topicName));
+        } catch (RejectedExecutionException ignored) {
+            // supervisor 종료 (서버 셧다운)
+        }
+    }
+
+    /**
+     * 조회한 토픽별 파티션 수 주기적 갱신 (파티션 추가 반영)
+     * @param pool // producer pool
+     * @return 갱신 작업 (pool 종료 시 취소)
+     */
+    public ScheduledFuture<?> schedulePartitionRefresh(ProducerPool pool) {
+        return executor.scheduleWithFixedDelay(pool::refreshPartitionCounts,
+            PARTITION_REFRESH_INTERVAL_MS, PARTITION_REFRESH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * supervisor 종료
+     */
+    public void shutdown() {
+        closed = true;
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,150 @@
+package proxy.infra.kafka.task;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import proxy.common.exception.ProxyException;
+import proxy.common.exception.resource.Errors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <pre>
+ * Apache kafka consumer read task executor
+ * - 동시에 실행/대기할 수 있는 읽기 작업 수를 제한하여, 요청이 몰려도 스레드 수와 메모리 사용량을 일정하게 유지
+ * - 제한을 초과한 작업은 {@link Errors#CONSUMER_READ_TASKS_EXHAUSTED} 예외로 거부
+ * - 대기 중인 작업 수, 실행 중인 작업 수, 작업 대기 시간 메트릭 제공
+ * </pre>
+ */
+@Slf4j
+public class ConsumerReadExecutor {
+
+    private static final String METRIC_PREFIX = "kafka.rest.consumer.read.";
+
+    // 읽기 작업 실행 스레드 풀
+    private final ExecutorService executor;
+    // 실행 중이거나 대기 중인 작업 수 제한 (parallelism + queueCapacity)
+    private final Semaphore permits;
+    // 대기 중인 작업 수
+    private final AtomicInteger queued = new AtomicInteger();
+    // 실행 중인 작업 수
+    private final AtomicInteger active = new AtomicInteger();
+    // 작업 제출 ~ 실행 시작까지 대기 시간
+    private final Timer waitTimer;
+
+    /**
+     * @param parallelism    // 동시에 실행할 수 있는 최대 작업 수
+     * @param queueCapacity  // 실행을 기다릴 수 있는 최대 작업 수
+     * @param virtualThreads // 가상 스레드 사용 여부 (Java 21 이상에서만 적용)
+     * @param registry       // 메트릭 레지스트리
+     */
+    public ConsumerReadExecutor(int parallelism, int queueCapacity, boolean virtualThreads, MeterRegistry registry) {
+        this.permits = new Semaphore(parallelism + queueCapacity);
+        this.executor = virtualThreads
+            ? newVirtualThreadExecutor(parallelism, queueCapacity)
+            : newPlatformThreadExecutor(parallelism, queueCapacity);
+
+        Gauge.builder(METRIC_PREFIX + "queue.depth", queued, AtomicInteger::get)
+            .description("Number of consumer read tasks waiting for a thread")
+            .register(registry);
+        Gauge.builder(METRIC_PREFIX + "active", active, AtomicInteger::get)
+            .description("Number of consumer read tasks currently running")
+            .register(registry);
+        this.waitTimer = Timer.builder(METRIC_PREFIX + "wait")
+            .description("Time consumer read tasks spend queued before running")
+            .register(registry);
+    }
+
+    /**
+     * 작업 제출
+     * @param task // 실행할 작업
+     * @throws ProxyException 실행/대기할 수 있는 작업 수를 초과한 경우
+     */
+    public void execute(Runnable task) {
+        if (!permits.tryAcquire()) {
+            throw new ProxyException(Errors.CONSUMER_READ_TASKS_EXHAUSTED);
+        }
+
+        final long submitted = System.nanoTime();
+        queued.incrementAndGet();
+
+        try {
+            executor.execute(() -> {
+                queued.decrementAndGet();
+                active.incrementAndGet();
+                waitTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+
+                try {
+                    task.run();
+                } finally {
+                    active.decrementAndGet();
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            permits.release();
+            throw new ProxyException(Errors.CONSUMER_READ_TASKS_EXHAUSTED);
+        }
+    }
+
+    /**
+     * 스레드 풀 종료
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 고정 크기 플랫폼 스레드 풀 생성
+     * @param parallelism
+     * @param queueCapacity
+     * @return
+     */
+    private static ExecutorService newPlatformThreadExecutor(int parallelism, int queueCapacity) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "consumer-read-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+            parallelism, parallelism, 60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+            threadFactory,
+            new ThreadPoolExecutor.AbortPolicy());
+        // 유휴 상태에서는 스레드를 유지하지 않음
+        pool.allowCoreThreadTimeOut(true);
+
+        return pool;
+    }
+
+    /**
+     * <pre>
+     * 가상 스레드 실행기 생성
+     * - 빌드 대상(Java 17)에는 가상 스레드 API가 없으므로 리플렉션으로 생성
+     * - 사용할 수 없는 런타임인 경우, 플랫폼 스레드 풀 사용
+     * </pre>
+     * @param parallelism
+     * @param queueCapacity
+     * @return
+     */
+    private static ExecutorService newVirtualThreadExecutor(int parallelism, int queueCapacity) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.warn("Virtual threads are not available on this runtime, falling back to a platform thread pool");
+            return newPlatformThreadExecutor(parallelism, queueCapacity);
+        }
+    }
+}
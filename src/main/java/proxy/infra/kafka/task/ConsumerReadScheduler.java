@@ -0,0 +1,124 @@
+package proxy.infra.kafka.task;
+
+import java.time.Duration;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+import proxy.common.exception.ProxyException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <pre>
+ * Apache kafka consumer read task scheduler
+ * - 읽기 작업을 1회 수행한 후 완료되지 않은 경우, 백오프 시간 동안 지연 큐에 보관한 후 다시 실행
+ * - 응답 조건을 만족할 때까지 읽기 작업이 스레드를 점유하며 반복 폴링하지 않도록 함
+ * </pre>
+ */
+@Slf4j
+public class ConsumerReadScheduler {
+
+    // 읽기 작업 실행 스레드 풀
+    private final ConsumerReadExecutor executor;
+    // 읽기 작업 재실행 대기 시간
+    private final Duration backoff;
+    // 읽기 작업 1회 수행 시, 컨슈머가 메시지 폴링 시 대기할 최대 시간
+    private final Duration pollTimeout;
+    // 재실행 대기 중인 읽기 작업 목록
+    private final DelayQueue<DelayedReadTask> delayedTasks = new DelayQueue<>();
+    // 대기 시간이 지난 읽기 작업을 스레드 풀에 제출하는 스레드
+    private final Thread dispatcher;
+
+    public ConsumerReadScheduler(ConsumerReadExecutor executor, Duration backoff, Duration pollTimeout) {
+        this.executor = executor;
+        this.backoff = backoff;
+        this.pollTimeout = pollTimeout;
+
+        this.dispatcher = new Thread(this::dispatch, "consumer-read-scheduler");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    /**
+     * 읽기 작업 제출
+     * @param task // 컨슈머 읽기 작업
+     * @throws ProxyException 실행/대기할 수 있는 읽기 작업 수를 초과한 경우
+     */
+    public void schedule(ConsumerReadTask<?, ?, ?, ?> task) {
+        log.info("Executing consumer read task ({})", task);
+        executor.execute(() -> runPartialRead(task));
+    }
+
+    /**
+     * 읽기 작업 1회 수행 후, 완료되지 않은 경우 지연 큐에 보관
+     * @param task // 컨슈머 읽기 작업
+     */
+    private void runPartialRead(ConsumerReadTask<?, ?, ?, ?> task) {
+        task.doPartialRead(pollTimeout);
+
+        if (!task.isDone()) {
+            // 응답 제한 시간을 초과하지 않는 범위 내에서 백오프
+            delayedTasks.add(new DelayedReadTask(task, task.getBackoff(backoff)));
+        }
+    }
+
+    /**
+     * 대기 시간이 지난 읽기 작업을 스레드 풀에 제출
+     */
+    private void dispatch() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                DelayedReadTask delayed = delayedTasks.take();
+                resubmit(delayed.task);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 재실행 대기 시간이 지난 읽기 작업 제출
+     * - 실행/대기할 수 있는 작업 수를 초과한 경우, 백오프 후 다시 제출
+     * @param task // 컨슈머 읽기 작업
+     */
+    private void resubmit(ConsumerReadTask<?, ?, ?, ?> task) {
+        try {
+            executor.execute(() -> runPartialRead(task));
+        } catch (ProxyException e) {
+            log.debug("Consumer read executor is saturated, delaying read task ({})", task);
+            delayedTasks.add(new DelayedReadTask(task, backoff));
+        }
+    }
+
+    /**
+     * 스케줄러 종료
+     */
+    public void shutdown() {
+        dispatcher.interrupt();
+    }
+
+    /**
+     * 재실행 대기 중인 읽기 작업
+     */
+    private static class DelayedReadTask implements Delayed {
+
+        private final ConsumerReadTask<?, ?, ?, ?> task;
+        // 재실행 시각 (nano time)
+        private final long readyAt;
+
+        private DelayedReadTask(ConsumerReadTask<?, ?, ?, ?> task, Duration delay) {
+            this.task = task;
+            this.readyAt = System.nanoTime() + delay.toNanos();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(readyAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -3,22 +3,26 @@ package proxy.infra.kafka.task;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Vector;
 
 import proxy.common.callback.ConsumerReadCallback;
+import proxy.common.callback.ConsumerStreamCallback;
 import proxy.infra.kafka.result.ConsumerRecord;
 import proxy.infra.kafka.result.ConsumerRecordAndSize;
 import proxy.infra.kafka.worker.ConsumerWorker;
 import lombok.extern.slf4j.Slf4j;
 
 /**
+ * <pre>
  * Apache kafka consumer read task
+ * - {@link ConsumerReadScheduler}에 의해 완료될 때까지 반복 실행됨
+ * </pre>
  */
 @Slf4j
-public class ConsumerReadTask<KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT> implements Runnable {
+public class ConsumerReadTask<KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT> {
 
     // 컨슈머 워커 (메시지 타입별)
     private final ConsumerWorker<KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT> consumer;
@@ -28,16 +32,18 @@ public class ConsumerReadTask<KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT>
     private final int minResponseBytes;
     // 프록시 서버가 응답할 (ByteString, Object, JsonNode 형식으로 변환 이전의) byte[] 형식의 메시지 키, 값의 최대 바이트 수
     private final long maxResponseBytes;
+    // 프록시 서버가 응답할 최대 레코드 수
+    private final int maxResponseRecords;
     // 메시지 읽기 작업 실행 후 결과/예외 반환 콜백
     private final ConsumerReadCallback<ClientKeyT, ClientValueT> callback;
-    // 읽기 작업 완료 여부
-    private boolean finished;
+    // 읽기 작업 완료 여부 (스케줄러의 여러 스레드에서 순차적으로 확인)
+    private volatile boolean finished;
     // 읽기 작업 시작 시각
     private final Instant started;
     private final Clock clock = Clock.systemUTC();
 
     // 컨슈머가 읽어온 레코드 목록 (ByteString, Object, JsonNode 형식) -> 프록시 응답
-    private List<ConsumerRecord<ClientKeyT, ClientValueT>> records;
+    private ArrayList<ConsumerRecord<ClientKeyT, ClientValueT>> records;
 
     // 현재까지 읽은 메시지 키, 값의 바이트 수
     private long bytesConsumed = 0;
@@ -45,12 +51,23 @@ public class ConsumerReadTask<KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT>
     private boolean exceededMinResponseBytes = false;
     // 최대 응답 바이트 수 초과 여부
     private boolean exceededMaxResponseBytes = false;
+    // 현재까지 읽은 레코드 수
+    private int recordsConsumed = 0;
 
     public ConsumerReadTask(
             ConsumerWorker<KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT> consumer,
             Duration timeoutMs,
             long maxBytes,
             ConsumerReadCallback<ClientKeyT, ClientValueT> callback) {
+        this(consumer, timeoutMs, maxBytes, Integer.MAX_VALUE, callback);
+    }
+
+    public ConsumerReadTask(
+            ConsumerWorker<KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT> consumer,
+            Duration timeoutMs,
+            long maxBytes,
+            int maxRecords,
+            ConsumerReadCallback<ClientKeyT, ClientValueT> callback) {
         
         this.consumer = consumer;
         // 요청 timeoutMs 값이 0 이하인 경우, 컨슈머 인스턴스 생성 시 추가한 request.timeout.ms 설정값 적용
@@ -61,6 +78,8 @@ public class ConsumerReadTask<KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT>
                 : Collections.min(Arrays.asList(timeoutMs, Duration.ofMillis(consumer.getConsumerInstanceConfig().getRequestTimeoutMs())));
         // 요청 maxBytes 값에 대해, 컨슈머 인스턴스 생성 시 추가한 fetch.max.bytes 설정값과 비교하여 작은 값 적용
         this.maxResponseBytes = Math.min(maxBytes, consumer.getConsumerInstanceConfig().getFetchMaxBytes().longValue());
+        // 요청 레코드 수 제한 (push 구독의 남은 크레딧)
+        this.maxResponseRecords = maxRecords;
         // 컨슈머 인스턴스 생성 시 추가한 fetch.min.bytes 설정값이 0보다 작은 경우, 제한을 두지 않음.
         // 그외의 경우, 컨슈머 인스턴스 생성 시 추가한 fetch.min.bytes 설정값 적용
         this.minResponseBytes = 
@@ -74,47 +93,40 @@ public class ConsumerReadTask<KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT>
         started = clock.instant(); // 현재 시각부터 읽기 작업 시작
     }
 
-    @Override
-    public void run() {
-        try {
-            log.info("Executing consumer read task ({})", this);
-
-            // 1) 프록시 서버가 응답에 소요할 시간이 아직 남았고,
-            // 2) 최대 응답 바이트 수에 아직 도달하지 않았고,
-            // 3) 최소 응답 바이트 수를 채우지 못한 경우
-            // -> 계속 읽기 작업 시도
-            while (!isDone()) {
-                // 읽기 작업 수행
-                doPartialRead();
-
-                // 컨슈머 인스턴스 만료 시간 증가
-                consumer.updateExpiration();
-            }
-            
-            log.info("Finished executing consumer read task ({})", this);
-
-        } catch (Exception e) {
-            log.info(
-                "Failed to read records from consumer {} while executing read task ({}). {}",
-                consumer.getInstanceId().toString(),
-                this,
-                e);
-            
-            // 예외 발생 시, 오류 반환
-            callback.onCompletion(null, e);
-        }
-    }
-
     /**
-     * 읽기 작업 수행
+     * <pre>
+     * 읽기 작업 1회 수행
+     * - 작업이 완료되지 않은 경우, {@link ConsumerReadScheduler}가 백오프 후 다시 호출함
+     * </pre>
+     * @param pollTimeout // 읽어온 레코드 목록이 비어있는 경우, 컨슈머가 메시지 폴링 시 대기할 최대 시간
      */
-    private void doPartialRead() {
+    @SuppressWarnings("unchecked")
+    public void doPartialRead(Duration pollTimeout) {
         try {
+            // 스트리밍 응답 중 클라이언트 연결이 끊어진 경우, 읽기 작업 종료
+            if (isStreaming() && ((ConsumerStreamCallback<ClientKeyT, ClientValueT>) callback).isCancelled()) {
+                finish();
+                return;
+            }
+
             // 프록시 서버가 응답할 레코드 목록 초기화
-            if (records == null) records = new Vector<>();
+            if (records == null) records = new ArrayList<>();
 
             // 최소/최대 응답 바이트 수 한도 내에서, 응답할 레코드 추가
-            addRecords();
+            // 폴링 대기 시간은 남은 응답 시간을 초과하지 않음.
+            // 스트리밍 응답인 경우, 이전 레코드 목록을 응답에 다 쓴 후에만 읽음 (메모리에는 레코드 목록 1개만 보관)
+            if (!isStreaming() || ((ConsumerStreamCallback<ClientKeyT, ClientValueT>) callback).isReady()) {
+                addRecords(Collections.min(Arrays.asList(pollTimeout, getRemainingTime())));
+            }
+
+            // 컨슈머 인스턴스 만료 시간 증가
+            consumer.updateExpiration();
+
+            // 스트리밍 응답인 경우, 이번 읽기 작업에서 추가한 레코드를 즉시 전달하고 목록 초기화
+            if (isStreaming() && !records.isEmpty()) {
+                ((ConsumerStreamCallback<ClientKeyT, ClientValueT>) callback).onBatch(records);
+                records = new ArrayList<>();
+            }
 
             // 컨슈머가 리더 파티션으로부터 레코드를 가져왔을 경우에만 로그 출력
             if (records.size() > 0 && bytesConsumed > 0) {
@@ -134,14 +146,16 @@ public class ConsumerReadTask<KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT>
             boolean requestTimedOut = elapsed.compareTo(requestTimeout) >= 0;
 
             // 1) 프록시 서버가 응답에 소요할 최대 시간을 초과했거나
-            // 2) 최대 응답 바이트 수를 초과했거나
-            // 3) 최소 응답 바이트 수를 초과한 경우
+            // 2) 최대 응답 바이트 수 또는 최대 레코드 수를 초과했거나
+            // 3) 최소 응답 바이트 수를 초과한 경우 (스트리밍 응답 제외)
             // -> 읽기 작업 종료 및 정상 응답
-            if (requestTimedOut || exceededMaxResponseBytes || exceededMinResponseBytes) {
-                log.info("Finishing ConsumerReadTask id={} requestTimedOut={} exceededMaxResponseBytes={} exceededMinResponseBytes={}",
+            if (requestTimedOut || exceededMaxResponseBytes || exceededMaxResponseRecords()
+                    || (exceededMinResponseBytes && !isStreaming())) {
+                log.info("Finishing ConsumerReadTask id={} requestTimedOut={} exceededMaxResponseBytes={} exceededMaxResponseRecords={} exceededMinResponseBytes={}",
                     this,
                     requestTimedOut,
                     exceededMaxResponseBytes,
+                    exceededMaxResponseRecords(),
                     exceededMinResponseBytes);
                 
                 finish(); // 읽기 작업 정상 종료
@@ -154,53 +168,68 @@ public class ConsumerReadTask<KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT>
 
     /**
      * 메시지 컨슈밍 (최소/최대 응답 바이트 수 한도 내)
+     * @param pollTimeout // 최초 폴링 시 대기할 최대 시간
      */
-    private void addRecords() {
+    private void addRecords(Duration pollTimeout) {
         // 1) 최대 응답 바이트 수에 아직 도달하지 않았고,
         // 2) 컨슈머가 읽어온 레코드 목록이 존재하는 한
         // -> 계속 프록시 응답에 레코드 추가 시도
-        while (!exceededMaxResponseBytes && consumer.hasNext()) {
-            // 다른 스레드에서의 동일한 컨슈머 인스턴스에 대한 값 변경 방지
-            synchronized (consumer) {
-                if (consumer.hasNext()) {
-                    // 프록시 응답에 레코드 추가
-                    maybeAddRecord();
-                }
-            }
+        // 대기 폴링은 최초 1회만 수행하고, 이후에는 이미 가져온 레코드만 확인
+        Duration timeout = pollTimeout;
+        while (!exceededMaxResponseBytes && !exceededMaxResponseRecords()) {
+            // 남은 바이트 수/레코드 수 한도 내의 레코드를 한 번에 꺼냄 (컨슈머 락 1회)
+            List<org.apache.kafka.clients.consumer.ConsumerRecord<KafkaKeyT, KafkaValueT>> batch =
+                consumer.drain(timeout, maxResponseBytes - bytesConsumed, maxResponseRecords - recordsConsumed);
+            timeout = Duration.ZERO;
+
+            // 읽어온 레코드가 없는 경우, 종료
+            if (batch.isEmpty()) break;
+
+            // 프록시 응답에 레코드 추가 (컨슈머 락 밖에서 형식 변환)
+            addBatch(batch);
         }
     }
 
     /**
-     * 읽어온 메시지 목록(프록시 응답)에 레코드 추가
+     * 꺼낸 레코드 목록을 형식 변환하여 읽어온 메시지 목록(프록시 응답)에 추가
+     * @param batch // 컨슈머가 읽어온 레코드 목록에서 꺼낸 레코드 목록
      */
-    private void maybeAddRecord() {
-        // 컨슈머가 읽어온 레코드 목록에서 레코드 하나 조회 후,
-        // 프록시 서버 응답을 위해 레코드 형식 변환 (ex. avro: Object -> JsonNode)
-        // 형식 변환된 레코드 & 메시지 키, 값 바이트 사이즈 응답값 맵핑
-        ConsumerRecordAndSize<ClientKeyT, ClientValueT> recordAndSize = consumer.createConsumerRecord(consumer.peek());
-        
-        // 메시지 키, 값 바이트 사이즈 합
-        long roughMsgSize = recordAndSize.getSize();
-
-        // 프록시 서버가 응답할 메시지 키, 값의 최대 바이트 수를 초과할 경우,
-        // 응답에 레코드를 추가하지 않고 종료
-        if (bytesConsumed + roughMsgSize >= maxResponseBytes) {
-            this.exceededMaxResponseBytes = true;
-            return;
-        }
+    private void addBatch(List<org.apache.kafka.clients.consumer.ConsumerRecord<KafkaKeyT, KafkaValueT>> batch) {
+        records.ensureCapacity(records.size() + batch.size());
 
-        // 읽어온 레코드 목록(프록시 응답)에 레코드 추가
-        records.add(recordAndSize.getRecord());
+        int added = 0;
+        for (org.apache.kafka.clients.consumer.ConsumerRecord<KafkaKeyT, KafkaValueT> record : batch) {
+            // 프록시 서버 응답을 위해 레코드 형식 변환 (ex. avro: Object -> JsonNode)
+            // 형식 변환된 레코드 & 메시지 키, 값 바이트 사이즈 응답값 맵핑
+            ConsumerRecordAndSize<ClientKeyT, ClientValueT> recordAndSize = consumer.createConsumerRecord(record);
 
-        // 응답에 추가한 레코드는, 컨슈머가 읽어온 레코드 목록에서 제거
-        consumer.next();
+            // 메시지 키, 값 바이트 사이즈 합
+            long roughMsgSize = recordAndSize.getSize();
 
-        // 현재까지 읽은 메시지 키, 값의 바이트 수 + 응답에 추가한 메시지의 키, 값 바이트 사이즈를 더함.
-        bytesConsumed += roughMsgSize;
+            // 프록시 서버가 응답할 메시지 키, 값의 최대 바이트 수를 초과할 경우,
+            // 응답에 레코드를 추가하지 않고 종료
+            if (bytesConsumed + roughMsgSize >= maxResponseBytes) {
+                this.exceededMaxResponseBytes = true;
+                break;
+            }
 
-        // 프록시 서버가 응답할 메시지 키, 값의 최소 바이트 수를 초과한 경우, 플래그 값 재정의
-        if (!exceededMinResponseBytes && bytesConsumed > minResponseBytes) {
-            this.exceededMinResponseBytes = true;
+            // 읽어온 레코드 목록(프록시 응답)에 레코드 추가
+            records.add(recordAndSize.getRecord());
+            added++;
+
+            // 현재까지 읽은 메시지 키, 값의 바이트 수 + 응답에 추가한 메시지의 키, 값 바이트 사이즈를 더함.
+            bytesConsumed += roughMsgSize;
+            recordsConsumed++;
+
+            // 프록시 서버가 응답할 메시지 키, 값의 최소 바이트 수를 초과한 경우, 플래그 값 재정의
+            if (!exceededMinResponseBytes && bytesConsumed > minResponseBytes) {
+                this.exceededMinResponseBytes = true;
+            }
+        }
+
+        // 응답에 추가하지 않은 레코드는, 컨슈머가 읽어온 레코드 목록으로 되돌림
+        if (added < batch.size()) {
+            consumer.pushBack(batch.subList(added, batch.size()));
         }
     }
 
@@ -208,10 +237,44 @@ public class ConsumerReadTask<KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT>
      * 읽기 작업 완료 여부 반환 (true: 완료됨)
      * @return
      */
-    private boolean isDone() {
+    public boolean isDone() {
         return finished;
     }
 
+    /**
+     * 최대 응답 레코드 수 도달 여부 반환 (true: 도달함)
+     * @return
+     */
+    private boolean exceededMaxResponseRecords() {
+        return recordsConsumed >= maxResponseRecords;
+    }
+
+    /**
+     * 스트리밍 응답 여부 반환 (true: 읽기 작업마다 레코드 전달)
+     * @return
+     */
+    private boolean isStreaming() {
+        return callback instanceof ConsumerStreamCallback;
+    }
+
+    /**
+     * 프록시 서버가 응답에 소요할 수 있는 남은 시간 반환
+     * @return
+     */
+    private Duration getRemainingTime() {
+        Duration remaining = requestTimeout.minus(Duration.between(started, clock.instant()));
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    /**
+     * 다음 읽기 작업까지 대기할 시간 반환 (응답 제한 시간을 초과하지 않음)
+     * @param backoff // 읽기 작업 재실행 대기 시간
+     * @return
+     */
+    public Duration getBackoff(Duration backoff) {
+        return Collections.min(Arrays.asList(backoff, getRemainingTime()));
+    }
+
     /**
      * 읽기 작업 정상 종료
      */
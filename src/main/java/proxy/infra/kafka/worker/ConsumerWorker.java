@@ -2,21 +2,33 @@ package proxy.infra.kafka.worker;
 
 import java.time.Clock;
 import java.time.Duration;
-import java.time.Instant;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
 import java.util.Vector;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TimeoutException;
 
 import proxy.api.request.ConsumerAssignmentRequest;
 import proxy.api.request.ConsumerCommittedRequest;
@@ -26,14 +38,18 @@ import proxy.api.request.ConsumerSeekToRequest;
 import proxy.api.request.ConsumerSubscriptionRequest;
 import proxy.api.response.ConsumerCommittedResponse;
 import proxy.common.config.ConsumerInstanceConfig;
+import proxy.common.exception.ProxyException;
+import proxy.common.exception.resource.Errors;
 import proxy.infra.kafka.result.ConsumerRecordAndSize;
 import proxy.infra.kafka.result.TopicPartitionOffset;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Apache kafka consumer works
  */
 @Getter
+@Slf4j
 public abstract class ConsumerWorker<KafkaKeyT, KafkaValueT, ClientKeyT, ClientValueT> {
 
     private ConsumerInstanceId instanceId; // 컨슈머 인스턴스ID
@@ -41,13 +57,45 @@ public abstract class ConsumerWorker<KafkaKeyT, KafkaValueT, ClientKeyT, ClientV
     private final ConsumerInstanceConfig consumerInstanceConfig; // 컨슈머 인스턴스 설정값
 
     private final Clock clock = Clock.systemUTC();
-    private final Duration consumerInstanceTimeout = Duration.ofMillis(300000); // 만료 시간 증가 (5m)
+    private final long consumerInstanceTimeoutMs; // 컨슈머 인스턴스 만료 시간 (ms)
 
     // 컨슈머가 읽어온 레코드 목록 (byte[], byte[], Object 형식)
-    private final Queue<ConsumerRecord<KafkaKeyT, KafkaValueT>> consumerRecords = new ArrayDeque<>();
-
-    volatile Instant expiration; // 컨슈머 인스턴스 만료 시각
-    private final Object expirationLock = new Object(); // 데드락 방지
+    private final Deque<ConsumerRecord<KafkaKeyT, KafkaValueT>> consumerRecords = new ArrayDeque<>();
+
+    // 컨슈머 인스턴스 생명주기 상태
+    private final AtomicReference<ConsumerWorkerState> state = new AtomicReference<>(ConsumerWorkerState.CREATING);
+
+    private volatile long expiration; // 컨슈머 인스턴스 만료 시각 (epoch ms, 락 없이 갱신)
+
+    // 백그라운드 프리패치 사용 여부 (true: 읽기 요청과 무관하게 레코드 목록을 미리 채움)
+    private volatile boolean prefetchEnabled = false;
+    // 프리패치 레코드 목록의 최대 레코드 수 (도달 시, 프리패치 중단)
+    private int prefetchMaxRecords;
+    // 프리패치 레코드 목록의 최대 바이트 수 (도달 시, 프리패치 중단)
+    private long prefetchMaxBytes;
+    // 프리패치 레코드 목록에 보관 중인 메시지 키, 값의 바이트 수
+    private long prefetchedBytes = 0;
+    // 클라이언트에 전달한 레코드의 다음 오프셋 (프리패치 사용 시, 오프셋 커밋 기준)
+    private final Map<TopicPartition, OffsetAndMetadata> deliveredOffsets = new HashMap<>();
+    // 프리패치 작업 실행 스레드 풀
+    private ScheduledExecutorService prefetchExecutor;
+    // 프리패치 작업 실행 간격
+    private long prefetchIntervalMs;
+    // 실행 대기 중인 프리패치 작업 (null: 대기 중인 작업 없음)
+    private ScheduledFuture<?> prefetchTask;
+
+    // 휴면 직전 파티션별 위치 조회 시 최대 대기 시간
+    private static final Duration HIBERNATE_POSITION_TIMEOUT = Duration.ofMillis(500);
+    // 휴면 후 컨슈머를 다시 생성할 때 사용 (null: 휴면 미사용)
+    private Supplier<? extends Consumer<?, ?>> consumerFactory;
+    // 휴면 여부 (true: 컨슈머를 종료하고 구독/할당 정보와 위치만 보관 중)
+    private volatile boolean hibernated = false;
+    // 구독 중인 토픽 목록 (휴면 후 다시 구독할 때 사용)
+    private Set<String> subscribedTopics;
+    // 구독 중인 토픽 패턴 (휴면 후 다시 구독할 때 사용)
+    private Pattern subscribedPattern;
+    // 휴면 직전 파티션별 다음 메시지 위치 (다시 생성한 컨슈머의 패치 오프셋)
+    private final Map<TopicPartition, Long> hibernatedPositions = new HashMap<>();
 
     public ConsumerWorker(
             ConsumerInstanceConfig instanceConfig,
@@ -56,7 +104,8 @@ public abstract class ConsumerWorker<KafkaKeyT, KafkaValueT, ClientKeyT, ClientV
         this.consumerInstanceConfig = instanceConfig;
         this.instanceId = instanceId;
         this.consumer = consumer;
-        this.expiration = clock.instant().plus(consumerInstanceTimeout); // 인스턴스 만료 시간 증가
+        this.consumerInstanceTimeoutMs = instanceConfig.getInstanceTimeoutMs();
+        this.expiration = clock.millis() + consumerInstanceTimeoutMs; // 인스턴스 만료 시간 증가
     }
 
     /**
@@ -66,30 +115,199 @@ public abstract class ConsumerWorker<KafkaKeyT, KafkaValueT, ClientKeyT, ClientV
      */
     public abstract ConsumerRecordAndSize<ClientKeyT, ClientValueT> createConsumerRecord(ConsumerRecord<KafkaKeyT, KafkaValueT> record);
 
+    /**
+     * 컨슈머 인스턴스 생명주기 상태 반환
+     * @return
+     */
+    public ConsumerWorkerState getState() {
+        return state.get();
+    }
+
+    /**
+     * 컨슈머 인스턴스 사용 가능 여부 반환 (true: 사용 가능)
+     * @return
+     */
+    public boolean isActive() {
+        return state.get() == ConsumerWorkerState.ACTIVE;
+    }
+
+    /**
+     * 컨슈머 인스턴스 상태 변경 (생성 중 -> 사용 가능)
+     * @return 상태 변경 성공 여부
+     */
+    public boolean activate() {
+        return state.compareAndSet(ConsumerWorkerState.CREATING, ConsumerWorkerState.ACTIVE);
+    }
+
+    /**
+     * 컨슈머 인스턴스 상태 변경 (사용 가능 -> 종료 대기 중)
+     * @return 상태 변경 성공 여부 (false: 이미 종료 중인 인스턴스)
+     */
+    public boolean markClosing() {
+        return state.compareAndSet(ConsumerWorkerState.ACTIVE, ConsumerWorkerState.CLOSING);
+    }
+
     /**
      * 컨슈머 인스턴스 만료 여부 반환 (true: 만료됨)
-     * @param now
+     * @param nowMs // 현재 시각 (epoch ms)
      * @return
      */
-    public boolean expired(Instant now) {
-        synchronized (this.expirationLock) {
-            return !expiration.isAfter(now);
-        }
+    public boolean expired(long nowMs) {
+        return expiration <= nowMs;
     }
 
     /**
-     * 컨슈머 인스턴스 만료 시간 증가 (현재 시각 + 5분)
+     * <pre>
+     * 컨슈머 인스턴스 만료 시간 증가 (현재 시각 + 인스턴스 만료 시간)
+     * - 만료 큐의 항목은 갱신하지 않으며, 만료 스케쥴러가 꺼낼 때 갱신된 만료 시각으로 다시 등록함
+     * </pre>
      */
     public void updateExpiration() {
-        synchronized (this.expirationLock) {
-            this.expiration = clock.instant().plus(consumerInstanceTimeout);
+        this.expiration = clock.millis() + consumerInstanceTimeoutMs;
+    }
+
+    /**
+     * 마지막으로 사용된 시각 반환 (epoch ms)
+     * @return
+     */
+    public long getLastAccess() {
+        return expiration - consumerInstanceTimeoutMs;
+    }
+
+    /**
+     * 휴면 후 컨슈머를 다시 생성할 때 사용할 생성 함수 세팅
+     * @param consumerFactory
+     */
+    public synchronized void setConsumerFactory(Supplier<? extends Consumer<?, ?>> consumerFactory) {
+        this.consumerFactory = consumerFactory;
+    }
+
+    /**
+     * <pre>
+     * 컨슈머 인스턴스 휴면
+     * - 컨슈머를 종료하여 소켓, fetch 버퍼, heartbeat 스레드를 반환하고, 구독/할당 정보와 파티션별 위치만 보관
+     * - 읽어온 레코드 목록 중 전달되지 않은 레코드는 버리고, 해당 파티션의 위치를 첫 번째 레코드로 되돌림
+     * - 다음 API 호출 시 {@link #ensureAwake()}로 다시 생성됨
+     * </pre>
+     * @param commit // 휴면 전 위치 커밋 여부
+     * @param idleMs // 휴면 대기 시간
+     * @return 휴면 여부
+     */
+    public synchronized boolean hibernate(boolean commit, long idleMs) {
+        // 이미 휴면 중이거나, 사용 가능한 상태가 아니거나, 다시 생성할 수 없는 경우 종료
+        if (hibernated || consumer == null || !isActive() || consumerFactory == null) return false;
+
+        // 휴면 대상으로 선정된 이후 사용된 경우 종료 (락 획득 전 요청이 들어온 경우)
+        if (clock.millis() - getLastAccess() < idleMs) return false;
+
+        // 파티션별 다음 메시지 위치 조회
+        // (락을 보유한 채 default.api.timeout.ms 동안 대기하지 않도록 짧게 대기하고, 조회하지 못한 경우 휴면하지 않음)
+        Map<TopicPartition, Long> positions = new HashMap<>();
+        try {
+            for (TopicPartition partition : consumer.assignment()) {
+                positions.put(partition, consumer.position(partition, HIBERNATE_POSITION_TIMEOUT));
+            }
+        } catch (TimeoutException e) {
+            log.debug("Timed out fetching positions, skipping hibernation of consumer instance {}", instanceId);
+            return false;
+        }
+
+        // 파티션별 다음 메시지 위치 저장
+        hibernatedPositions.clear();
+        hibernatedPositions.putAll(positions);
+        // 전달되지 않은 레코드가 있는 파티션은 첫 번째 레코드 위치로 되돌림
+        Iterator<ConsumerRecord<KafkaKeyT, KafkaValueT>> it = consumerRecords.descendingIterator();
+        while (it.hasNext()) {
+            ConsumerRecord<KafkaKeyT, KafkaValueT> record = it.next();
+            hibernatedPositions.put(new TopicPartition(record.topic(), record.partition()), record.offset());
+        }
+        consumerRecords.clear();
+        prefetchedBytes = 0;
+        deliveredOffsets.clear();
+        cancelPrefetch();
+
+        // 위치 커밋
+        if (commit && !hibernatedPositions.isEmpty()) {
+            Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+            hibernatedPositions.forEach((partition, position) -> offsets.put(partition, new OffsetAndMetadata(position)));
+            try {
+                consumer.commitSync(offsets);
+            } catch (Exception e) {
+                log.warn("Failed to commit positions before hibernating consumer instance {}", instanceId, e);
+            }
+        }
+
+        consumer.close();
+        consumer = null;
+        hibernated = true;
+
+        log.info("Hibernated idle consumer instance {}", instanceId);
+        return true;
+    }
+
+    /**
+     * <pre>
+     * 휴면 중인 컨슈머 인스턴스 재개
+     * - 컨슈머를 다시 생성하고, 보관한 구독/할당 정보와 파티션별 위치 복원
+     * - 구독 방식인 경우, 리밸런스로 파티션이 할당될 때 보관한 위치로 이동
+     * </pre>
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized void ensureAwake() {
+        // 휴면 중이 아니거나, 종료된 인스턴스인 경우 종료
+        if (!hibernated || state.get() == ConsumerWorkerState.CLOSED) return;
+
+        consumer = (Consumer<KafkaKeyT, KafkaValueT>) consumerFactory.get();
+        hibernated = false;
+
+        if (subscribedTopics != null) {
+            consumer.subscribe(subscribedTopics, new PrefetchRebalanceListener());
+        } else if (subscribedPattern != null) {
+            consumer.subscribe(subscribedPattern, new PrefetchRebalanceListener());
+        } else if (!hibernatedPositions.isEmpty()) {
+            consumer.assign(hibernatedPositions.keySet());
+            hibernatedPositions.forEach(consumer::seek);
+            hibernatedPositions.clear();
         }
+
+        log.info("Woke up hibernated consumer instance {}", instanceId);
+    }
+
+    /**
+     * <pre>
+     * 컨슈머 인스턴스 사용 처리
+     * - 만료 시간을 증가시키고, 휴면 중인 경우 재개
+     * - 휴면 처리와 같은 락에서 수행하여, 사용 직후 휴면되지 않도록 함
+     * </pre>
+     */
+    public synchronized void touch() {
+        updateExpiration();
+        ensureAwake();
+    }
+
+    /**
+     * 휴면 중인 경우 재개 후 컨슈머 반환
+     * @return
+     */
+    private Consumer<KafkaKeyT, KafkaValueT> awakeConsumer() {
+        ensureAwake();
+
+        // 종료된 인스턴스인 경우, 예외 발생
+        if (consumer == null) {
+            throw new ProxyException(Errors.CONSUMER_INSTANCE_NOT_FOUND);
+        }
+        return consumer;
     }
 
     /**
      * 컨슈머 인스턴스 종료
      */
     public synchronized void close() {
+        state.set(ConsumerWorkerState.CLOSED);
+
+        // 프리패치 작업 중지
+        cancelPrefetch();
+
         if (consumer != null) {
             consumer.close();
         }
@@ -106,20 +324,26 @@ public abstract class ConsumerWorker<KafkaKeyT, KafkaValueT, ClientKeyT, ClientV
             return;
         }
 
-        // 컨슈머 인스턴스가 존재하는 경우
-        if (consumer != null) {
-            // 토픽 목록이 주어진 경우
-            if (subscription.getTopics() != null) {
-                // 토픽 구독
-                consumer.subscribe(subscription.getTopics());
-
-            // 토픽 패턴이 주어진 경우
-            } else if (subscription.getTopicPattern() != null) {
-                // 토픽 패턴 분석
-                Pattern topicPattern = Pattern.compile(subscription.getTopicPattern());
-                // 토픽 구독
-                consumer.subscribe(topicPattern);
-            }
+        Consumer<KafkaKeyT, KafkaValueT> consumer = awakeConsumer();
+
+        // 이전 구독 기준으로 프리패치한 레코드 목록 초기화
+        resetPrefetch();
+
+        // 토픽 목록이 주어진 경우
+        if (subscription.getTopics() != null) {
+            // 토픽 구독
+            consumer.subscribe(subscription.getTopics(), new PrefetchRebalanceListener());
+            subscribedTopics = new HashSet<>(subscription.getTopics());
+            subscribedPattern = null;
+
+        // 토픽 패턴이 주어진 경우
+        } else if (subscription.getTopicPattern() != null) {
+            // 토픽 패턴 분석
+            Pattern topicPattern = Pattern.compile(subscription.getTopicPattern());
+            // 토픽 구독
+            consumer.subscribe(topicPattern, new PrefetchRebalanceListener());
+            subscribedTopics = null;
+            subscribedPattern = topicPattern;
         }
     }
 
@@ -128,26 +352,23 @@ public abstract class ConsumerWorker<KafkaKeyT, KafkaValueT, ClientKeyT, ClientV
      * @return
      */
     public synchronized Set<String> subscription() {
-        Set<String> currSubscription = null;
-        
-        // 컨슈머 인스턴스가 존재하는 경우
-        if (consumer != null) {
-            // 현재 구독 중인 토픽 목록 조회
-            currSubscription = consumer.subscription();
-        }
-
-        return currSubscription;
+        // 현재 구독 중인 토픽 목록 조회
+        return awakeConsumer().subscription();
     }
 
     /**
      * 현재 구독 중인 모든 토픽 목록에 대해 구독 취소
      */
     public synchronized void unsubscribe() {
-        // 컨슈머 인스턴스가 존재하는 경우
-        if (consumer != null) {
-            // 모든 토픽 구독 취소
-            consumer.unsubscribe();
-        }
+        Consumer<KafkaKeyT, KafkaValueT> consumer = awakeConsumer();
+
+        // 프리패치한 레코드 목록 초기화
+        resetPrefetch();
+
+        // 모든 토픽 구독 취소
+        consumer.unsubscribe();
+        subscribedTopics = null;
+        subscribedPattern = null;
     }
 
     /**
@@ -155,16 +376,26 @@ public abstract class ConsumerWorker<KafkaKeyT, KafkaValueT, ClientKeyT, ClientV
      * 컨슈머가 읽어온 레코드 목록 존재 여부 반환 (true: 존재함)
      * - 레코드 목록이 비어있는 경우, 메시지 컨슈밍
      * </pre>
+     * @param pollTimeout // 메시지 폴링 시 레코드가 도착할 때까지 대기할 최대 시간
      * @return
      */
-    public synchronized boolean hasNext() {
+    public synchronized boolean hasNext(Duration pollTimeout) {
+        // 휴면 중인 경우, 컨슈머 재개
+        awakeConsumer();
+
         // 읽어온 레코드 목록에 레코드가 존재하는 경우, true 반환
         if (hasNextCached()) {
             return true;
         }
 
+        // 프리패치 사용 시, 폴링은 프리패치 작업에서만 수행 (레코드 목록이 비었으므로 프리패치 요청)
+        if (prefetchEnabled) {
+            schedulePrefetch();
+            return false;
+        }
+
         // 읽어온 레코드 목록이 비어있는 경우, 메시지 컨슈밍
-        addConsumerRecords();
+        addConsumerRecords(pollTimeout);
 
         // 읽어온 레코드 목록 다시 확인
         return hasNextCached();
@@ -180,10 +411,11 @@ public abstract class ConsumerWorker<KafkaKeyT, KafkaValueT, ClientKeyT, ClientV
 
     /**
      * 메시지 컨슈밍
+     * @param pollTimeout // 메시지 폴링 시 레코드가 도착할 때까지 대기할 최대 시간
      */
-    private synchronized void addConsumerRecords() {
-        // 메시지 컨슈밍
-        ConsumerRecords<KafkaKeyT, KafkaValueT> polledRecords = consumer.poll(Duration.ofMillis(0)); // 100
+    private synchronized void addConsumerRecords(Duration pollTimeout) {
+        // 메시지 컨슈밍 (레코드가 도착하면 즉시 반환)
+        ConsumerRecords<KafkaKeyT, KafkaValueT> polledRecords = consumer.poll(pollTimeout);
         
         // 컨슈머가 읽어온 레코드 목록 (byte[], byte[], Object 형식) 에 추가
         for (ConsumerRecord<KafkaKeyT, KafkaValueT> consumerRecord : polledRecords) {
@@ -196,7 +428,112 @@ public abstract class ConsumerWorker<KafkaKeyT, KafkaValueT, ClientKeyT, ClientV
      * @return
      */
     public synchronized ConsumerRecord<KafkaKeyT, KafkaValueT> next() {
-        return consumerRecords.poll();
+        ConsumerRecord<KafkaKeyT, KafkaValueT> record = consumerRecords.poll();
+
+        // 프리패치 사용 시, 전달한 레코드의 바이트 수 및 다음 오프셋 반영 후 레코드 목록에 여유가 생기면 프리패치 요청
+        if (record != null && prefetchEnabled) {
+            prefetchedBytes -= recordSize(record);
+            deliveredOffsets.put(
+                new TopicPartition(record.topic(), record.partition()),
+                new OffsetAndMetadata(record.offset() + 1));
+            schedulePrefetch();
+        }
+
+        return record;
+    }
+
+    /**
+     * <pre>
+     * 컨슈머가 읽어온 레코드 목록에서 바이트 수/레코드 수 한도 내의 레코드를 한 번에 꺼냄
+     * - 레코드 목록이 비어있는 경우, 메시지 컨슈밍
+     * - 바이트 수는 형식 변환 이전의 메시지 키, 값 크기로 추정하며, 레코드가 있는 경우 최소 1개는 꺼냄
+     * - 형식 변환 후 응답에 포함되지 않은 레코드는 {@link #pushBack(List)}로 되돌려야 함
+     * </pre>
+     * @param pollTimeout // 메시지 폴링 시 레코드가 도착할 때까지 대기할 최대 시간
+     * @param maxBytes    // 꺼낼 레코드의 메시지 키, 값 바이트 수 합의 최대값
+     * @param maxRecords  // 꺼낼 최대 레코드 수
+     * @return
+     */
+    public synchronized List<ConsumerRecord<KafkaKeyT, KafkaValueT>> drain(Duration pollTimeout, long maxBytes, int maxRecords) {
+        // 꺼낼 레코드가 없는 경우, 빈 목록 반환
+        if (maxRecords <= 0 || !hasNext(pollTimeout)) {
+            return Collections.emptyList();
+        }
+
+        List<ConsumerRecord<KafkaKeyT, KafkaValueT>> batch = new ArrayList<>(Math.min(maxRecords, consumerRecords.size()));
+        long estimatedBytes = 0;
+
+        while (!consumerRecords.isEmpty() && batch.size() < maxRecords) {
+            long size = recordSize(consumerRecords.peek());
+
+            // 추정 바이트 수가 한도를 초과하는 경우 중단
+            if (!batch.isEmpty() && estimatedBytes + size >= maxBytes) break;
+
+            batch.add(next());
+            estimatedBytes += size;
+        }
+
+        return batch;
+    }
+
+    /**
+     * 꺼낸 레코드 중 응답에 포함되지 않은 레코드를 레코드 목록 앞에 순서대로 되돌림
+     * @param records // 되돌릴 레코드 목록 (꺼낸 순서)
+     */
+    public synchronized void pushBack(List<ConsumerRecord<KafkaKeyT, KafkaValueT>> records) {
+        for (int i = records.size() - 1; i >= 0; i--) {
+            ConsumerRecord<KafkaKeyT, KafkaValueT> record = records.get(i);
+            consumerRecords.addFirst(record);
+
+            // 프리패치 사용 시, 되돌린 레코드의 바이트 수 및 전달 오프셋 복원
+            if (prefetchEnabled) {
+                prefetchedBytes += recordSize(record);
+                deliveredOffsets.put(
+                    new TopicPartition(record.topic(), record.partition()),
+                    new OffsetAndMetadata(record.offset()));
+            }
+        }
+    }
+
+    /**
+     * <pre>
+     * 클라이언트에 전달하지 못한 레코드의 파티션 위치를 되돌림 (push 구독 연결 종료 등)
+     * - 주어진 파티션의 읽어온 레코드 목록은 제거하고, 다음 폴링 시 주어진 오프셋부터 다시 읽음
+     * - 휴면 중인 경우, 재개 시 복원할 위치를 변경
+     * </pre>
+     * @param offsets // 파티션별 전달하지 못한 첫 번째 레코드의 오프셋
+     */
+    public synchronized void rewind(Map<TopicPartition, Long> offsets) {
+        if (offsets.isEmpty()) return;
+
+        // 휴면 중인 경우, 재개 시 복원할 위치 변경
+        if (hibernated) {
+            offsets.forEach((partition, offset) -> hibernatedPositions.computeIfPresent(partition, (p, position) -> offset));
+            return;
+        }
+        if (consumer == null) return;
+
+        // 주어진 파티션의 읽어온 레코드 제거 (되돌린 위치부터 다시 읽음)
+        Iterator<ConsumerRecord<KafkaKeyT, KafkaValueT>> it = consumerRecords.iterator();
+        while (it.hasNext()) {
+            ConsumerRecord<KafkaKeyT, KafkaValueT> record = it.next();
+            if (offsets.containsKey(new TopicPartition(record.topic(), record.partition()))) {
+                if (prefetchEnabled) prefetchedBytes -= recordSize(record);
+                it.remove();
+            }
+        }
+
+        // 할당이 유지되는 파티션의 위치 되돌림
+        Set<TopicPartition> assigned = consumer.assignment();
+        offsets.forEach((partition, offset) -> {
+            if (!assigned.contains(partition)) return;
+
+            consumer.seek(partition, offset);
+            // 프리패치 사용 시, 전달 오프셋 복원
+            if (prefetchEnabled) deliveredOffsets.put(partition, new OffsetAndMetadata(offset));
+        });
+
+        schedulePrefetch();
     }
 
     /**
@@ -213,8 +550,14 @@ public abstract class ConsumerWorker<KafkaKeyT, KafkaValueT, ClientKeyT, ClientV
      * @return
      */
     public synchronized void commitOffsets(ConsumerOffsetCommitRequest offsetCommitRequest) {
+        Consumer<KafkaKeyT, KafkaValueT> consumer = awakeConsumer();
+
         // 요청 오프셋 정보가 없는 경우, 컨슈머가 지금까지 읽은 모든 레코드를 커밋
-        if (offsetCommitRequest == null) consumer.commitAsync();
+        // 프리패치 사용 시, 컨슈머의 현재 위치가 아닌 클라이언트에 전달한 레코드까지만 커밋
+        if (offsetCommitRequest == null) {
+            if (!prefetchEnabled) consumer.commitAsync();
+            else if (!deliveredOffsets.isEmpty()) consumer.commitAsync(new HashMap<>(deliveredOffsets), null);
+        }
         // 요청 오프셋 정보가 있는 경우
         else {
             Map<TopicPartition, OffsetAndMetadata> offsetMap = new HashMap<TopicPartition, OffsetAndMetadata>();
@@ -238,30 +581,28 @@ public abstract class ConsumerWorker<KafkaKeyT, KafkaValueT, ClientKeyT, ClientV
      * @return
      */
     public synchronized ConsumerCommittedResponse committed(ConsumerCommittedRequest request) {
+        Consumer<KafkaKeyT, KafkaValueT> consumer = awakeConsumer();
         Vector<TopicPartitionOffset> offsets = new Vector<>();
         Set<TopicPartition> partitions = new HashSet<>();
 
-        // 컨슈머 인스턴스가 존재하는 경우
-        if (consumer != null) {
-            // 요청 토픽-파티션 목록 List -> Set 변경
-            for (var t : request.getPartitions()) {
-                TopicPartition partition = new TopicPartition(t.getTopic(), t.getPartition());
-                partitions.add(partition);
-            }
+        // 요청 토픽-파티션 목록 List -> Set 변경
+        for (var t : request.getPartitions()) {
+            TopicPartition partition = new TopicPartition(t.getTopic(), t.getPartition());
+            partitions.add(partition);
+        }
 
-            // 오프셋 커밋 목록 조회
-            Map<TopicPartition, OffsetAndMetadata> result = consumer.committed(partitions);
-
-            // 응답값 세팅
-            if (result != null) {
-                for (TopicPartition key : result.keySet()) {
-                    // 토픽명, 파티션ID, 오프셋 번호 세팅
-                    offsets.add(
-                        new TopicPartitionOffset(
-                            key.topic(),
-                            key.partition(),
-                            result.get(key).offset()));
-                }
+        // 오프셋 커밋 목록 조회
+        Map<TopicPartition, OffsetAndMetadata> result = consumer.committed(partitions);
+
+        // 응답값 세팅
+        if (result != null) {
+            for (TopicPartition key : result.keySet()) {
+                // 토픽명, 파티션ID, 오프셋 번호 세팅
+                offsets.add(
+                    new TopicPartitionOffset(
+                        key.topic(),
+                        key.partition(),
+                        result.get(key).offset()));
             }
         }
 
@@ -273,6 +614,8 @@ public abstract class ConsumerWorker<KafkaKeyT, KafkaValueT, ClientKeyT, ClientV
      * @param assignmentRequest // 파티션 수동 할당 요청
      */
     public synchronized void assign(ConsumerAssignmentRequest assignmentRequest) {
+        Consumer<KafkaKeyT, KafkaValueT> consumer = awakeConsumer();
+
         // 요청 파티션이 존재하는 경우
         if (assignmentRequest != null) {
             Vector<TopicPartition> topicPartitions = new Vector<TopicPartition>();
@@ -283,8 +626,13 @@ public abstract class ConsumerWorker<KafkaKeyT, KafkaValueT, ClientKeyT, ClientV
                 topicPartitions.add(new TopicPartition(t.getTopic(), t.getPartition()));
             }
             
+            // 이전 할당 기준으로 프리패치한 레코드 목록 초기화
+            resetPrefetch();
+
             // 파티션 수동 할당
             consumer.assign(topicPartitions);
+            subscribedTopics = null;
+            subscribedPattern = null;
         }
     }
 
@@ -293,15 +641,8 @@ public abstract class ConsumerWorker<KafkaKeyT, KafkaValueT, ClientKeyT, ClientV
      * @return
      */
     public synchronized Set<TopicPartition> assignment() {
-        Set<TopicPartition> currAssignment = null;
-
-        // 컨슈머 인스턴스가 존재하는 경우
-        if (consumer != null) {
-            // 파티션 수동 할당 조회
-            currAssignment = consumer.assignment();
-        }
-        
-        return currAssignment;
+        // 파티션 수동 할당 조회
+        return awakeConsumer().assignment();
     }
 
     /**
@@ -309,12 +650,17 @@ public abstract class ConsumerWorker<KafkaKeyT, KafkaValueT, ClientKeyT, ClientV
      * @param request
      */
     public synchronized void seek(ConsumerSeekRequest request) {
+        Consumer<KafkaKeyT, KafkaValueT> consumer = awakeConsumer();
+
         // 요청이 없는 경우, 종료
         if (request == null) return;
 
         // 패치 오프셋 목록 업데이트
         for (TopicPartitionOffset partition : request.getOffsets()) {
-            consumer.seek(new TopicPartition(partition.getTopic(), partition.getPartition()), partition.getOffset());
+            TopicPartition topicPartition = new TopicPartition(partition.getTopic(), partition.getPartition());
+            consumer.seek(topicPartition, partition.getOffset());
+            // 이전 위치 기준으로 프리패치한 레코드 제거 (요청 위치 유지)
+            discardPrefetched(Set.of(topicPartition), /* rewind= */ false);
         }
     }
 
@@ -323,6 +669,8 @@ public abstract class ConsumerWorker<KafkaKeyT, KafkaValueT, ClientKeyT, ClientV
      * @param request
      */
     public synchronized void seekToBeginning(ConsumerSeekToRequest request) {
+        Consumer<KafkaKeyT, KafkaValueT> consumer = awakeConsumer();
+
         // 요청 토픽-파티션 목록이 있는 경우
         if (request != null) {
             Vector<TopicPartition> topicPartitions = new Vector<TopicPartition>();
@@ -334,6 +682,8 @@ public abstract class ConsumerWorker<KafkaKeyT, KafkaValueT, ClientKeyT, ClientV
 
             // 초기 오프셋으로 이동
             consumer.seekToBeginning(topicPartitions);
+            // 이전 위치 기준으로 프리패치한 레코드 제거 (요청 위치 유지)
+            discardPrefetched(topicPartitions, /* rewind= */ false);
         }
     }
 
@@ -342,6 +692,8 @@ public abstract class ConsumerWorker<KafkaKeyT, KafkaValueT, ClientKeyT, ClientV
      * @param request
      */
     public synchronized void seekToEnd(ConsumerSeekToRequest request) {
+        Consumer<KafkaKeyT, KafkaValueT> consumer = awakeConsumer();
+
         // 요청 토픽-파티션 목록이 있는 경우
         if (request != null) {
             Vector<TopicPartition> topicPartitions = new Vector<TopicPartition>();
@@ -353,6 +705,178 @@ public abstract class ConsumerWorker<KafkaKeyT, KafkaValueT, ClientKeyT, ClientV
 
             // 최근 오프셋으로 이동
             consumer.seekToEnd(topicPartitions);
+            // 이전 위치 기준으로 프리패치한 레코드 제거 (요청 위치 유지)
+            discardPrefetched(topicPartitions, /* rewind= */ false);
+        }
+    }
+
+    /**
+     * <pre>
+     * 백그라운드 프리패치 시작
+     * - 레코드 목록이 최대 레코드 수/바이트 수에 도달할 때까지 주어진 간격으로 메시지 폴링하여 미리 채움
+     * - 레코드 목록이 가득 찼거나 폴링한 레코드가 없는 경우 중단하고, 읽기 요청이 레코드를 꺼내면 다시 시작 (유휴 인스턴스는 폴링하지 않음)
+     * - 자동 커밋을 사용하는 인스턴스는 전달되지 않은 레코드가 커밋될 수 있으므로 사용하지 않음
+     * </pre>
+     * @param executor   // 프리패치 작업 실행 스레드 풀
+     * @param interval   // 프리패치 작업 실행 간격
+     * @param maxRecords // 프리패치 레코드 목록의 최대 레코드 수
+     * @param maxBytes   // 프리패치 레코드 목록의 최대 바이트 수
+     */
+    public synchronized void startPrefetch(ScheduledExecutorService executor, Duration interval, int maxRecords, long maxBytes) {
+        // 이미 실행 중이거나 종료된 인스턴스인 경우, 종료
+        if (prefetchEnabled || consumer == null) return;
+
+        this.prefetchExecutor = executor;
+        this.prefetchIntervalMs = interval.toMillis();
+        this.prefetchMaxRecords = maxRecords;
+        this.prefetchMaxBytes = maxBytes;
+        this.prefetchEnabled = true;
+        schedulePrefetch();
+    }
+
+    /**
+     * 레코드 목록에 여유가 있고 대기 중인 작업이 없는 경우, 프리패치 작업 예약
+     */
+    private void schedulePrefetch() {
+        if (!prefetchEnabled || hibernated || consumer == null || prefetchTask != null) return;
+        if (isPrefetchFull()) return;
+
+        try {
+            prefetchTask = prefetchExecutor.schedule(this::prefetch, prefetchIntervalMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 프리패치 스레드 풀 종료 (서버 셧다운)
+            log.debug("Prefetch executor is shut down, skipping prefetch for consumer instance {}", instanceId);
+        }
+    }
+
+    /**
+     * 대기 중인 프리패치 작업 취소
+     */
+    private void cancelPrefetch() {
+        if (prefetchTask != null) {
+            prefetchTask.cancel(false);
+            prefetchTask = null;
+        }
+    }
+
+    /**
+     * 프리패치 레코드 목록이 최대 레코드 수/바이트 수에 도달했는지 여부
+     * @return
+     */
+    private boolean isPrefetchFull() {
+        return consumerRecords.size() >= prefetchMaxRecords || prefetchedBytes >= prefetchMaxBytes;
+    }
+
+    /**
+     * <pre>
+     * 프리패치 작업 1회 수행
+     * - 폴링한 레코드가 있고 레코드 목록에 여유가 있는 경우에만 다음 작업 예약
+     * </pre>
+     */
+    private synchronized void prefetch() {
+        prefetchTask = null;
+
+        // 종료되었거나 휴면 중인 인스턴스인 경우, 종료
+        if (!prefetchEnabled || consumer == null || hibernated) return;
+
+        boolean polled = false;
+        try {
+            // 구독 중인 토픽 또는 할당된 파티션이 없는 경우, 폴링하지 않음
+            if (consumer.subscription().isEmpty() && consumer.assignment().isEmpty()) return;
+
+            // 메시지 컨슈밍 (대기하지 않음)
+            for (ConsumerRecord<KafkaKeyT, KafkaValueT> record : consumer.poll(Duration.ZERO)) {
+                consumerRecords.add(record);
+                prefetchedBytes += recordSize(record);
+                polled = true;
+            }
+        } catch (Exception e) {
+            log.warn("Prefetch failed for consumer instance {}", instanceId, e);
+        }
+
+        // 폴링한 레코드가 있는 경우, 레코드 목록이 가득 찰 때까지 계속
+        if (polled) {
+            schedulePrefetch();
+        }
+    }
+
+    /**
+     * 프리패치한 레코드 목록 초기화 (구독/할당 변경 시, 할당이 유지되는 파티션은 첫 번째 미전달 레코드 위치로 되돌림)
+     */
+    private void resetPrefetch() {
+        discardPrefetched(null, /* rewind= */ true);
+    }
+
+    /**
+     * <pre>
+     * 프리패치한 레코드 중, 주어진 파티션의 레코드 제거
+     * - rewind=true 인 경우, 현재 할당된 파티션의 위치를 제거한 첫 번째 레코드의 오프셋으로 되돌림
+     *   (컨슈머 위치는 이미 프리패치한 레코드 다음이므로, 되돌리지 않으면 해당 레코드를 건너뜀)
+     * - 요청에 의해 위치를 변경한 경우(seek), 요청 위치를 유지하도록 rewind=false
+     * </pre>
+     * @param partitions // 레코드를 제거할 파티션 목록 (null: 전체)
+     * @param rewind     // 위치 되돌림 여부
+     */
+    private void discardPrefetched(Collection<TopicPartition> partitions, boolean rewind) {
+        if (!prefetchEnabled) return;
+
+        // 파티션별 제거한 첫 번째 레코드의 오프셋
+        Map<TopicPartition, Long> firstDiscarded = new HashMap<>();
+
+        Iterator<ConsumerRecord<KafkaKeyT, KafkaValueT>> it = consumerRecords.iterator();
+        while (it.hasNext()) {
+            ConsumerRecord<KafkaKeyT, KafkaValueT> record = it.next();
+            TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+            if (partitions == null || partitions.contains(partition)) {
+                prefetchedBytes -= recordSize(record);
+                firstDiscarded.putIfAbsent(partition, record.offset());
+                it.remove();
+            }
+        }
+
+        // 할당이 유지되는 파티션의 위치 되돌림
+        if (rewind && consumer != null && !firstDiscarded.isEmpty()) {
+            Set<TopicPartition> assigned = consumer.assignment();
+            firstDiscarded.forEach((partition, offset) -> {
+                if (assigned.contains(partition)) consumer.seek(partition, offset);
+            });
+        }
+
+        // 위치가 변경된 파티션은 전달 오프셋 기준으로 커밋하지 않음
+        if (partitions == null) deliveredOffsets.clear();
+        else deliveredOffsets.keySet().removeAll(partitions);
+    }
+
+    /**
+     * 레코드의 메시지 키, 값 바이트 사이즈 합 반환
+     * @param record
+     * @return
+     */
+    private static long recordSize(ConsumerRecord<?, ?> record) {
+        return Math.max(0, record.serializedKeySize()) + Math.max(0, record.serializedValueSize());
+    }
+
+    /**
+     * 리밸런스로 회수된 파티션의 프리패치 레코드 제거, 휴면 후 다시 할당된 파티션의 위치 복원
+     */
+    private class PrefetchRebalanceListener implements ConsumerRebalanceListener {
+
+        @Override
+        public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+            // 회수된 파티션은 다음 소유자가 커밋된 오프셋부터 읽으므로 되돌리지 않음
+            discardPrefetched(partitions, /* rewind= */ false);
+        }
+
+        @Override
+        public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+            // 휴면 후 다시 구독한 경우, 휴면 직전 위치로 이동
+            for (TopicPartition partition : partitions) {
+                Long position = hibernatedPositions.remove(partition);
+                if (position != null) consumer.seek(partition, position);
+            }
+            // 재개 후 첫 번째 할당에 포함되지 않은 파티션의 위치는 제거
+            // (이후 리밸런스로 할당될 때 오래된 위치로 이동하지 않고, 커밋된 오프셋부터 읽음)
+            hibernatedPositions.clear();
         }
     }
 }
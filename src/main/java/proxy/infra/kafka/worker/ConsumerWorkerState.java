@@ -0,0 +1,11 @@
+package proxy.infra.kafka.worker;
+
+/**
+ * 컨슈머 인스턴스 생명주기 상태
+ */
+public enum ConsumerWorkerState {
+    CREATING, // 생성 중 (컨슈머 풀 등록 전)
+    ACTIVE,   // 사용 가능
+    CLOSING,  // 컨슈머 풀에서 제거됨, 종료 대기 중
+    CLOSED    // 종료됨
+}
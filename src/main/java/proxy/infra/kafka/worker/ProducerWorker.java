@@ -11,8 +11,12 @@ import java.util.stream.Collectors;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.KafkaException;
 import org.apache.kafka.common.header.internals.RecordHeader;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.kafka.KafkaClientMetrics;
+
 import com.google.common.collect.Multimap;
 import com.google.protobuf.ByteString;
 
@@ -28,6 +32,9 @@ public class ProducerWorker {
     
     private Producer<byte[], byte[]> producer;
 
+    // 프로듀서별 클라이언트 메트릭 (client.id 태그로 구분)
+    private KafkaClientMetrics metrics;
+
     private CountDownLatch latch;
 
     /**
@@ -37,12 +44,20 @@ public class ProducerWorker {
     public ProducerWorker(Properties props) {
         this.props = props;
 
-        // Producer 클라이언트 구성
+        // Producer 클라이언트 구성 (서버 셧다운 시, ProducerManager 에서 종료)
         producer = new KafkaProducer<byte[], byte[]>(this.props);
-        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-            producer.close();
-            log.warn("Proxy data producer shutdown complete.");
-        }));
+    }
+
+    /**
+     * 프로듀서 워커 시작 및 클라이언트 메트릭 등록
+     * @param props
+     * @param registry // 메트릭 레지스트리
+     */
+    public ProducerWorker(Properties props, MeterRegistry registry) {
+        this(props);
+
+        metrics = new KafkaClientMetrics(producer);
+        metrics.bindTo(registry);
     }
 
     /**
@@ -68,35 +83,61 @@ public class ProducerWorker {
         CompletableFuture<ProduceResult> result = new CompletableFuture<>();
         log.debug("Producing to kafka start...");
         // 메시지 전송
-        producer.send(
-            new ProducerRecord<>(
-                topicName,
-                partitionId.orElse(null),
-                timestamp.toEpochMilli(),
-                key.map(ByteString::toByteArray).orElse(null),
-                value.map(ByteString::toByteArray).orElse(null),
-                headers.entries().stream()
-                    .map(
-                        header ->
-                            new RecordHeader(
-                                header.getKey(),
-                                header.getValue().map(ByteString::toByteArray).orElse(null)))
-                    .collect(Collectors.toList())),
-            (metadata, exception) -> {
-                // 메시지 전송 실패 시
-                if (exception != null) {
-                    log.debug("Received exception from kafka", exception);
-                    result.completeExceptionally(exception);
-                // 메시지 전송 성공 시
-                } else {
-                    log.debug("Received response from kafka");
-                    result.complete(ProduceResult.fromRecordMetadata(metadata, Instant.now()));
-                }
-            });
+        try {
+            producer.send(
+                new ProducerRecord<>(
+                    topicName,
+                    partitionId.orElse(null),
+                    timestamp.toEpochMilli(),
+                    key.map(ByteString::toByteArray).orElse(null),
+                    value.map(ByteString::toByteArray).orElse(null),
+                    headers.entries().stream()
+                        .map(
+                            header ->
+                                new RecordHeader(
+                                    header.getKey(),
+                                    header.getValue().map(ByteString::toByteArray).orElse(null)))
+                        .collect(Collectors.toList())),
+                (metadata, exception) -> {
+                    // 메시지 전송 실패 시
+                    if (exception != null) {
+                        log.debug("Received exception from kafka", exception);
+                        result.completeExceptionally(exception);
+                    // 메시지 전송 성공 시
+                    } else {
+                        log.debug("Received response from kafka");
+                        result.complete(ProduceResult.fromRecordMetadata(metadata, Instant.now()));
+                    }
+                });
+        } catch (KafkaException e) {
+            // 전송 전 오류 (종료된 프로듀서, 버퍼 대기 시간 초과 등)
+            result.completeExceptionally(e);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(new KafkaException(e));
+        }
         
         return result;
     }
 
+    /**
+     * 토픽 파티션 수 조회 (프로듀서가 보관한 메타데이터 사용, 없는 경우 조회)
+     * @param topicName // 토픽명
+     * @return
+     * @throws KafkaException 메타데이터 조회 실패 시 (max.block.ms 초과 등)
+     */
+    public int partitionCount(String topicName) {
+        return producer.partitionsFor(topicName).size();
+    }
+
+    /**
+     * 토픽 메타데이터 조회 (프로듀서 교체 전, 브로커 연결 확인)
+     * @param topicName // 토픽명
+     * @throws KafkaException 메타데이터 조회 실패 시 (max.block.ms 초과 등)
+     */
+    public void warmUp(String topicName) {
+        producer.partitionsFor(topicName);
+    }
+
     /**
      * 데이터 워커 종료
      */
@@ -107,6 +148,10 @@ public class ProducerWorker {
                 latch.await(10, TimeUnit.SECONDS);
             }
 
+            if (metrics != null) {
+                metrics.close();
+            }
+
             if (producer != null) {
                 producer.close();
                 producer.notify();
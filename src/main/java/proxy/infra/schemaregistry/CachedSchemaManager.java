@@ -1,32 +1,115 @@
 package proxy.infra.schemaregistry;
 
 import java.io.IOException;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import proxy.common.cache.CacheConfig;
-import proxy.common.cache.ProxyCacheManager;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import proxy.common.config.KafkaRestConfig;
 import proxy.common.exception.ProxyException;
 import proxy.common.format.EmbeddedFormat;
 import proxy.infra.schemaregistry.result.RegisteredSchema;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 
 /**
+ * <pre>
  * Cached schema works
+ * - 스키마ID -> 스키마(내용), 스키마(내용) -> 스키마ID/버전 양방향 캐시
+ * - 한 방향으로 조회한 결과는 반대 방향에도 함께 저장하여 두 캐시가 일치하도록 유지
+ * - 캐시 적중 시 락 없이 반환하며, 같은 키에 대한 동시 조회는 스키마 레지스트리 요청 1건으로 합쳐짐 (single-flight)
+ * - 스키마 레지스트리 요청은 전역 락 없이 별도 스레드 풀에서 수행 (스키마 레지스트리 최대 연결 수 만큼의 스레드)
+ * - 캐시별 적중률, 제거 건수 메트릭 등록 (cache.* 메트릭, cache 태그: ID_TO_SCHEMA, SCHEMA_TO_ID, LATEST_SCHEMA)
+ * - subject별 최신 스키마는 갱신 주기가 지나면 캐시된 값을 그대로 반환하면서 백그라운드에서 다시 조회 (stale-while-revalidate)
+ * </pre>
  */
 @Component
-public class CachedSchemaManager {
+public class CachedSchemaManager implements InitializingBean {
 
     @Autowired
     private SchemaRegistryManager schemaRegistryManager;
 
     @Autowired
-    private ProxyCacheManager cacheManager;
+    private KafkaRestConfig kafkaRestConfig;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     private static final String NO_SUBJECT = "";
 
+    public static final long SCHEMA_CACHE_TTL_MINUTES = 1440; // 만료: 1일
+    public static final int MAX_SCHEMA_CACHE_SIZE = 10000;    // 크기: 1만 개
+
+    // 등록만 되어 아직 버전을 알 수 없는 스키마
+    private static final int UNKNOWN_VERSION = -1;
+
+    // 스키마 레지스트리 요청 실행 스레드 풀
+    private ExecutorService loaderExecutor;
+
+    /* key = (subject, 스키마ID), value = 스키마(내용) */
+    private AsyncCache<SubjectAndId, String> schemasById;
+
+    /* key = (subject, 스키마(내용)), value = 스키마ID, 버전 */
+    private AsyncCache<SubjectAndSchema, RegisteredSchema> schemasByContent;
+
+    /* key = subject, value = 최신 스키마 (갱신 주기가 0 이하인 경우, 캐시하지 않음) */
+    private AsyncLoadingCache<String, RegisteredSchema> latestSchemas;
+
+    /**
+     * <pre>
+     * 스레드 풀, 캐시 생성 및 캐시 메트릭 등록
+     * - 스레드 풀은 스키마 레지스트리 최대 연결 수 만큼의 스레드로 제한 (캐시 미스가 몰려도 연결을 기다리는 스레드를 만들지 않음)
+     * - 최신 스키마는 갱신 주기(refresh-ms)가 지난 후 조회 시, 백그라운드에서 다시 조회하며 완료 전까지 이전 값 반환
+     * - 최신 스키마를 다시 조회하는 데 실패한 경우 이전 값을 유지하며, 최대 보관 시간(max-stale-ms) 동안 갱신되지 않으면 제거
+     * </pre>
+     */
+    @Override
+    public void afterPropertiesSet() {
+        loaderExecutor = newLoaderExecutor(kafkaRestConfig.getSchemaRegistryHttpMaxConnections());
+
+        schemasById = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(SCHEMA_CACHE_TTL_MINUTES))
+            .maximumSize(MAX_SCHEMA_CACHE_SIZE)
+            .executor(loaderExecutor)
+            .recordStats()
+            .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, schemasById.synchronous(), "ID_TO_SCHEMA");
+
+        schemasByContent = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(SCHEMA_CACHE_TTL_MINUTES))
+            .maximumSize(MAX_SCHEMA_CACHE_SIZE)
+            .executor(loaderExecutor)
+            .recordStats()
+            .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, schemasByContent.synchronous(), "SCHEMA_TO_ID");
+
+        long refreshMs = kafkaRestConfig.getSchemaRegistryLatestRefreshMs();
+        if (refreshMs <= 0) return;
+
+        latestSchemas = Caffeine.newBuilder()
+            .refreshAfterWrite(Duration.ofMillis(refreshMs))
+            .expireAfterWrite(Duration.ofMillis(Math.max(refreshMs, kafkaRestConfig.getSchemaRegistryLatestMaxStaleMs())))
+            .maximumSize(MAX_SCHEMA_CACHE_SIZE)
+            .executor(loaderExecutor)
+            .recordStats()
+            .buildAsync((subject, executor) -> load(() -> fetchLatest(subject)));
+        CaffeineCacheMetrics.monitor(meterRegistry, latestSchemas.synchronous(), "LATEST_SCHEMA");
+    }
+
     /**
      * 스키마ID로 스키마(내용) 조회
      * @param subject
@@ -34,36 +117,17 @@ public class CachedSchemaManager {
      * @return
      * @throws IOException
      */
-    @SuppressWarnings("unchecked")
     public String getRawSchemaById(String subject, int schemaId) throws IOException {
-        if (subject == null) subject = NO_SUBJECT;
+        final String subjectName = subject == null ? NO_SUBJECT : subject;
 
-        // subject로 <key: schemaId, value: schema> 캐시 데이터 조회
-        Map<Integer, String> idSchemaMap = this.cacheManager.get(CacheConfig.ID_TO_SCHEMA, subject, Map.class);
-        
-        // 조회된 map이 없을 경우, 빈 map 생성
-        if (idSchemaMap == null) idSchemaMap = new ConcurrentHashMap<>();
-
-        synchronized (this) {
-            // 스키마ID로 map에 저장된 스키마 조회
-            String cachedSchema = idSchemaMap.get(schemaId);
-            
-            // 조회된 스키마가 있을 경우, 반환
-            if (cachedSchema != null) return cachedSchema;
-
-            // 조회된 스키마가 없는 경우, 연결된 스키마 레지스트리에서 스키마ID로 스키마 검색
-            final String retrievedRawSchema = this.schemaRegistryManager.getRawSchemaById(schemaId, subject);
-            
-            // 캐시 저장 -> key: subject, value: Map<key: schemaId, value: schema>
-            idSchemaMap.put(schemaId, retrievedRawSchema);
-            this.cacheManager.put(CacheConfig.ID_TO_SCHEMA, subject, idSchemaMap);
-
-            // 캐시 저장 -> key: subject, value: Map<key: schema, value: schemaId>
-            Map<String, Integer> schemaIdMap = Map.of(retrievedRawSchema, schemaId);
-            this.cacheManager.put(CacheConfig.SCHEMA_TO_ID, subject, schemaIdMap);
-
-            return retrievedRawSchema;
-        }
+        String rawSchema = await(schemasById.get(
+            new SubjectAndId(subjectName, schemaId),
+            (key, executor) -> load(() -> this.schemaRegistryManager.getRawSchemaById(schemaId, subjectName))));
+
+        // 반대 방향 캐시 저장 (버전은 조회 시점에 확인)
+        linkContent(subjectName, rawSchema, schemaId, UNKNOWN_VERSION);
+
+        return rawSchema;
     }
 
     /**
@@ -75,40 +139,8 @@ public class CachedSchemaManager {
      * @throws IOException
      * @throws ProxyException
      */
-    @SuppressWarnings("unchecked")
     public int getIdByRawSchema(EmbeddedFormat format, String subject, String schema) throws IOException, ProxyException {
-        if (subject == null) subject = NO_SUBJECT;
-
-        // subject로 <key: schema, value: schemaId> 캐시 데이터 조회
-        Map<String, Integer> schemaIdMap = this.cacheManager.get(CacheConfig.SCHEMA_TO_ID, subject, Map.class);
-
-        // 조회된 map이 없을 경우, 빈 map 생성
-        if (schemaIdMap == null) schemaIdMap = new ConcurrentHashMap<>();
-
-        synchronized (this) {
-            // 스키마(내용)로 map에 저장된 스키마ID 조회
-            Integer cachedId = schemaIdMap.get(schema);
-
-            // 조회된 스키마ID가 있을 경우, 반환
-            if (cachedId != null) return cachedId;
-
-            // 조회된 스키마ID가 없는 경우, 연결된 스키마 레지스트리에서 스키마(내용)로 스키마 검색
-            final RegisteredSchema retrievedSchema = this.schemaRegistryManager.getSchemaByRawSchema(format, subject, schema);
-
-            // 캐시 저장 -> key: subject, value: Map<key: schema, value: schemaId>
-            schemaIdMap.put(schema, retrievedSchema.getSchemaId());
-            this.cacheManager.put(CacheConfig.SCHEMA_TO_ID, subject, schemaIdMap);
-
-            // 캐시 저장 -> key: subject, value: Map<key: schemaId, value: schema>
-            Map<Integer, String> idSchemaMap = Map.of(retrievedSchema.getSchemaId(), schema);
-            this.cacheManager.put(CacheConfig.ID_TO_SCHEMA, subject, idSchemaMap);
-
-            // 캐시 저장 -> key: subject, value: Map<key: schema, value: schemaVersion>
-            Map<String, Integer> schemaVersionMap = Map.of(schema, retrievedSchema.getSchemaVersion());
-            this.cacheManager.put(CacheConfig.SCHEMA_TO_VERSION, subject, schemaVersionMap);
-
-            return retrievedSchema.getSchemaId();
-        }
+        return lookupByContent(format, subject == null ? NO_SUBJECT : subject, schema).getSchemaId();
     }
 
     /**
@@ -120,36 +152,21 @@ public class CachedSchemaManager {
      * @throws IOException
      * @throws ProxyException
      */
-    @SuppressWarnings("unchecked")
     public int registerAndGetId(EmbeddedFormat format, String subject, String schema) throws IOException, ProxyException {
-        if (subject == null) subject = NO_SUBJECT;
-
-        // subject로 <key: schema, value: schemaId> 캐시 데이터 조회
-        Map<String, Integer> schemaIdMap = this.cacheManager.get(CacheConfig.SCHEMA_TO_ID, subject, Map.class);
+        final String subjectName = subject == null ? NO_SUBJECT : subject;
 
-        // 조회된 map이 없을 경우, 빈 map 생성
-        if (schemaIdMap == null) schemaIdMap = new ConcurrentHashMap<>();
+        // 이미 조회/등록된 스키마인 경우 캐시된 스키마ID 반환, 아닌 경우 새로운 스키마 등록
+        RegisteredSchema registered = await(schemasByContent.get(
+            new SubjectAndSchema(subjectName, schema),
+            (key, executor) -> load(() -> {
+                int schemaId = this.schemaRegistryManager.registerAndGetId(format, subjectName, schema);
+                return new RegisteredSchema(subjectName, schemaId, UNKNOWN_VERSION, schema, null);
+            })));
 
-        synchronized (this) {
-            // 스키마(내용)로 map에 저장된 스키마ID 조회
-            Integer cachedId = schemaIdMap.get(schema);
+        // 반대 방향 캐시 저장
+        linkId(subjectName, registered.getSchemaId(), schema);
 
-            // 조회된 스키마ID가 있을 경우, 반환
-            if (cachedId != null) return cachedId;
-
-            // 조회된 스키마ID가 없는 경우, 연결된 스키마 레지스트리에 새로운 스키마 등록 및 스키마ID 반환
-            final int retrievedId = this.schemaRegistryManager.registerAndGetId(format, subject, schema);
-
-            // 캐시 저장 -> key: subject, value: Map<key: schema, value: schemaId>
-            schemaIdMap.put(schema, retrievedId);
-            this.cacheManager.put(CacheConfig.SCHEMA_TO_ID, subject, schemaIdMap);
-
-            // 캐시 저장 -> key: subject, value: Map<key: schemaId, value: schema>
-            Map<Integer, String> idSchemaMap = Map.of(retrievedId, schema);
-            this.cacheManager.put(CacheConfig.ID_TO_SCHEMA, subject, idSchemaMap);
-
-            return retrievedId;
-        }
+        return registered.getSchemaId();
     }
 
     /**
@@ -161,12 +178,27 @@ public class CachedSchemaManager {
     public RegisteredSchema getLatestSchema(String subject) throws IOException {
         if (subject == null) subject = NO_SUBJECT;
 
-        synchronized (this) {
-            // 연결된 스키마 레지스트리에서 최신 버전의 스키마 검색
-            final RegisteredSchema retrievedSchema = this.schemaRegistryManager.getLatestSchema(subject);
+        // 캐시하지 않는 경우, 연결된 스키마 레지스트리에서 최신 버전의 스키마 검색
+        if (latestSchemas == null) return fetchLatest(subject);
+
+        return await(latestSchemas.get(subject));
+    }
+
+    /**
+     * 스키마 레지스트리에서 최신 스키마 조회 후, 스키마ID/스키마(내용) 캐시에도 저장
+     * @param subject
+     * @return
+     * @throws IOException
+     */
+    private RegisteredSchema fetchLatest(String subject) throws IOException {
+        RegisteredSchema latest = this.schemaRegistryManager.getLatestSchema(subject);
 
-            return retrievedSchema;
+        if (latest != null && latest.getSchema() != null) {
+            linkId(subject, latest.getSchemaId(), latest.getSchema());
+            linkContent(subject, latest.getSchema(), latest.getSchemaId(), latest.getSchemaVersion());
         }
+
+        return latest;
     }
 
     /**
@@ -178,39 +210,163 @@ public class CachedSchemaManager {
      * @throws IOException
      * @throws ProxyException 
      */
-    @SuppressWarnings("unchecked")
     public int getVersionByRawSchema(EmbeddedFormat format, String subject, String schema) throws IOException, ProxyException {
-        if (subject == null) subject = NO_SUBJECT;
+        final String subjectName = subject == null ? NO_SUBJECT : subject;
+        final SubjectAndSchema key = new SubjectAndSchema(subjectName, schema);
+
+        RegisteredSchema cached = lookupByContent(format, subjectName, schema);
+
+        // 스키마ID만 알고 있는 경우 (등록 또는 스키마ID로 조회), 스키마 레지스트리에서 다시 조회
+        if (cached.getSchemaVersion() == UNKNOWN_VERSION) {
+            CompletableFuture<RegisteredSchema> current = schemasByContent.getIfPresent(key);
+            CompletableFuture<RegisteredSchema> reload = new CompletableFuture<>();
+
+            if (current != null && schemasByContent.asMap().replace(key, current, reload)) {
+                load(() -> fetchByContent(format, subjectName, schema)).whenComplete((result, e) -> {
+                    if (e != null) reload.completeExceptionally(e);
+                    else reload.complete(result);
+                });
+                cached = await(reload);
+
+            // 다른 요청이 이미 다시 조회 중인 경우, 해당 결과 사용
+            } else {
+                cached = lookupByContent(format, subjectName, schema);
+            }
+        }
 
-        // subject로 <key: schema, value: schemaVersion> 캐시 데이터 조회
-        Map<String, Integer> schemaVersionMap = this.cacheManager.get(CacheConfig.SCHEMA_TO_VERSION, subject, Map.class);
+        return cached.getSchemaVersion();
+    }
 
-        // 조회된 map이 없을 경우, 빈 map 생성
-        if (schemaVersionMap == null) schemaVersionMap = new ConcurrentHashMap<>();
+    /**
+     * 스키마(내용)로 스키마ID, 버전 조회 (캐시에 없는 경우, 스키마 레지스트리에서 조회)
+     * @param format
+     * @param subject
+     * @param schema
+     * @return
+     * @throws IOException
+     */
+    private RegisteredSchema lookupByContent(EmbeddedFormat format, String subject, String schema) throws IOException {
+        RegisteredSchema registered = await(schemasByContent.get(
+            new SubjectAndSchema(subject, schema),
+            (key, executor) -> load(() -> fetchByContent(format, subject, schema))));
 
-        synchronized (this) {
-            // 스키마 버전 조회
-            Integer cachedVersion = schemaVersionMap.get(schema);
+        // 반대 방향 캐시 저장
+        linkId(subject, registered.getSchemaId(), schema);
 
-            // 조회된 스키마 버전이 있을 경우, 반환
-            if (cachedVersion != null) return cachedVersion;
+        return registered;
+    }
 
-            // 조회된 스키마 버전이 없는 경우, 연결된 스키마 레지스트리에서 스키마(내용)로 스키마 검색
-            final RegisteredSchema retrievedSchema = this.schemaRegistryManager.getSchemaByRawSchema(format, subject, schema);
+    /**
+     * 스키마 레지스트리에서 스키마(내용)로 스키마 조회
+     * @param format
+     * @param subject
+     * @param schema
+     * @return
+     * @throws IOException
+     */
+    private RegisteredSchema fetchByContent(EmbeddedFormat format, String subject, String schema) throws IOException {
+        RegisteredSchema retrieved = this.schemaRegistryManager.getSchemaByRawSchema(format, subject, schema);
+        return new RegisteredSchema(subject, retrieved.getSchemaId(), retrieved.getSchemaVersion(), schema, retrieved.getSchemaType());
+    }
 
-            // 캐시 저장 -> key: subject, value: Map<key: schema, value: schemaVersion>
-            schemaVersionMap.put(schema, retrievedSchema.getSchemaVersion());
-            this.cacheManager.put(CacheConfig.SCHEMA_TO_VERSION, subject, schemaVersionMap);
+    /**
+     * 스키마ID -> 스키마(내용) 캐시 저장 (없는 경우에만)
+     * @param subject
+     * @param schemaId
+     * @param schema
+     */
+    private void linkId(String subject, int schemaId, String schema) {
+        schemasById.asMap().putIfAbsent(new SubjectAndId(subject, schemaId), CompletableFuture.completedFuture(schema));
+    }
 
-            // 캐시 저장 -> key: subject, value: Map<key: schemaId, value: schema>
-            Map<Integer, String> idSchemaMap = Map.of(retrievedSchema.getSchemaId(), schema);
-            this.cacheManager.put(CacheConfig.ID_TO_SCHEMA, subject, idSchemaMap);
+    /**
+     * 스키마(내용) -> 스키마ID/버전 캐시 저장 (없는 경우에만)
+     * @param subject
+     * @param schema
+     * @param schemaId
+     * @param schemaVersion
+     */
+    private void linkContent(String subject, String schema, int schemaId, int schemaVersion) {
+        schemasByContent.asMap().putIfAbsent(
+            new SubjectAndSchema(subject, schema),
+            CompletableFuture.completedFuture(new RegisteredSchema(subject, schemaId, schemaVersion, schema, null)));
+    }
 
-            // 캐시 저장 -> key: subject, value: Map<key: schema, value: schemaId>
-            Map<String, Integer> schemaIdMap = Map.of(schema, retrievedSchema.getSchemaId());
-            this.cacheManager.put(CacheConfig.SCHEMA_TO_ID, subject, schemaIdMap);
+    /**
+     * 스키마 레지스트리 요청을 스레드 풀에서 비동기로 수행
+     * @param <T>
+     * @param loader
+     * @return
+     */
+    private <T> CompletableFuture<T> load(Loader<T> loader) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return loader.load();
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, loaderExecutor);
+    }
 
-            return retrievedSchema.getSchemaVersion();
+    /**
+     * <pre>
+     * 조회 결과 대기 및 반환 (캐시 적중 시 대기하지 않음)
+     * - 조회에 실패한 경우, 원래 예외 반환 (실패한 결과는 캐시에서 자동 제거됨)
+     * </pre>
+     * @param <T>
+     * @param future
+     * @return
+     * @throws IOException
+     */
+    private static <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the schema registry", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException && e.getCause().getCause() != null
+                ? e.getCause().getCause()
+                : e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof IOException) throw (IOException) cause;
+            throw new IOException(cause);
         }
     }
+
+    /**
+     * 스키마 레지스트리 요청 실행 스레드 풀 생성 (스레드 수 고정, 초과 요청은 대기)
+     * @param threads // 스레드 수 (스키마 레지스트리 최대 연결 수)
+     * @return
+     */
+    private static ExecutorService newLoaderExecutor(int threads) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "schema-registry-loader-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 스키마 레지스트리 조회 함수
+     */
+    @FunctionalInterface
+    private interface Loader<T> {
+        T load() throws IOException;
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class SubjectAndId {
+        private final String subject;
+        private final int schemaId;
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class SubjectAndSchema {
+        private final String subject;
+        private final String schema;
+    }
 }
@@ -0,0 +1,215 @@
+package proxy.infra.schemaregistry;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.SSLContext;
+
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.ssl.SSLContextBuilder;
+import org.apache.http.util.EntityUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import proxy.common.config.KafkaRestConfig;
+import proxy.infra.schemaregistry.response.SchemaRegistryResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <pre>
+ * Schema registry http client
+ * - keep-alive 커넥션을 풀로 관리하여, 요청마다 TCP/TLS 연결을 새로 맺지 않음
+ * - 연결/응답 대기 시간 제한, 전송 전 실패한 요청 재시도
+ * - 엔드포인트별 요청 소요 시간 메트릭 제공 (schema.registry.requests)
+ * </pre>
+ */
+@Component
+@Slf4j
+public class SchemaRegistryHttpClient implements SmartInitializingSingleton, DisposableBean {
+
+    private static final String METRIC_NAME = "schema.registry.requests";
+
+    @Autowired
+    private KafkaRestConfig kafkaRestConfig;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 커넥션 풀
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    // http client
+    private CloseableHttpClient httpClient;
+
+    // basic 인증 헤더값 (null: 인증 미사용)
+    private String authorization;
+
+    /**
+     * 커넥션 풀 및 http client 초기화
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        int maxConnections = kafkaRestConfig.getSchemaRegistryHttpMaxConnections();
+
+        connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry());
+        connectionManager.setMaxTotal(maxConnections);
+        // 스키마 레지스트리는 하나의 호스트이므로, 호스트별 최대 연결 수를 전체 최대 연결 수와 동일하게 설정
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        // 일정 시간 사용하지 않은 연결은 재사용 전 유효성 검사
+        connectionManager.setValidateAfterInactivity(2000);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+            .setConnectTimeout(kafkaRestConfig.getSchemaRegistryHttpConnectTimeoutMs())
+            .setSocketTimeout(kafkaRestConfig.getSchemaRegistryHttpReadTimeoutMs())
+            .setConnectionRequestTimeout(kafkaRestConfig.getSchemaRegistryHttpConnectionRequestTimeoutMs())
+            .build();
+
+        var builder = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(requestConfig)
+            // 전송되기 전 실패한 요청만 재시도 (등록 요청이 중복 처리되지 않도록 함)
+            .setRetryHandler(new DefaultHttpRequestRetryHandler(kafkaRestConfig.getSchemaRegistryHttpRetries(), false))
+            .evictIdleConnections(60, TimeUnit.SECONDS);
+
+        // 인증 정보가 주어진 경우, basic 인증 헤더값 생성
+        // (401 응답을 기다리지 않고 모든 요청에 헤더를 포함하여, 왕복 횟수를 늘리지 않음)
+        String username = kafkaRestConfig.getSchemaRegistryUsername();
+        String password = kafkaRestConfig.getSchemaRegistryPassword();
+        if (StringUtils.hasText(username) && StringUtils.hasText(password)) {
+            byte[] credentials = (username + ":" + password).getBytes(StandardCharsets.UTF_8);
+            authorization = "Basic " + Base64.getEncoder().encodeToString(credentials);
+        }
+
+        httpClient = builder.build();
+    }
+
+    /**
+     * http client 종료
+     */
+    @Override
+    public void destroy() throws IOException {
+        if (httpClient != null) httpClient.close();
+    }
+
+    /**
+     * http GET request
+     * @param url      // 요청 url
+     * @param endpoint // 메트릭 태그로 사용할 엔드포인트 (예: /schemas/ids/{id})
+     * @return
+     * @throws IOException
+     */
+    public SchemaRegistryResponse get(String url, String endpoint) throws IOException {
+        return execute(new HttpGet(normalize(url)), endpoint);
+    }
+
+    /**
+     * http POST request
+     * @param url         // 요청 url
+     * @param endpoint    // 메트릭 태그로 사용할 엔드포인트 (예: /subjects/{subject}/versions)
+     * @param contentType // 요청 content type
+     * @param body        // 요청 body
+     * @return
+     * @throws IOException
+     */
+    public SchemaRegistryResponse post(String url, String endpoint, String contentType, String body) throws IOException {
+        HttpPost request = new HttpPost(normalize(url));
+        request.setHeader(HttpHeaders.CONTENT_TYPE, contentType);
+        request.setEntity(new StringEntity(body == null ? "" : body, ContentType.create(contentType, StandardCharsets.UTF_8)));
+
+        return execute(request, endpoint);
+    }
+
+    /**
+     * 요청 전송 및 소요 시간 기록
+     * @param request
+     * @param endpoint
+     * @return
+     * @throws IOException
+     */
+    private SchemaRegistryResponse execute(HttpRequestBase request, String endpoint) throws IOException {
+        long start = System.nanoTime();
+        String status = "IO_ERROR";
+
+        // basic 인증 (preemptive)
+        if (authorization != null) {
+            request.setHeader(HttpHeaders.AUTHORIZATION, authorization);
+        }
+
+        // 응답 본문을 모두 읽어 연결을 풀에 반환
+        try (CloseableHttpResponse response = httpClient.execute(request)) {
+            int statusCode = response.getStatusLine().getStatusCode();
+            status = String.valueOf(statusCode);
+
+            String message = response.getEntity() == null
+                ? ""
+                : EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
+
+            return new SchemaRegistryResponse(statusCode, message);
+
+        } finally {
+            Timer.builder(METRIC_NAME)
+                .description("Latency of schema registry requests")
+                .tag("method", request.getMethod())
+                .tag("endpoint", endpoint)
+                .tag("status", status)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * url 시작점에 http 추가
+     * @param url
+     * @return
+     */
+    private static String normalize(String url) {
+        return url.startsWith("http") ? url : "http://" + url;
+    }
+
+    /**
+     * 프로토콜별 소켓 생성 방식 등록 (ssl 인증 무시 설정 시, 모든 인증서 및 호스트 허용)
+     * @return
+     */
+    private Registry<ConnectionSocketFactory> socketFactoryRegistry() {
+        SSLConnectionSocketFactory sslSocketFactory = SSLConnectionSocketFactory.getSocketFactory();
+
+        if (kafkaRestConfig.isIgnoreSslValidation()) {
+            try {
+                SSLContext sslContext = new SSLContextBuilder().loadTrustMaterial(null, (chain, authType) -> true).build();
+                sslSocketFactory = new SSLConnectionSocketFactory(sslContext, NoopHostnameVerifier.INSTANCE);
+            } catch (GeneralSecurityException e) {
+                log.error("", e);
+            }
+        }
+
+        return RegistryBuilder.<ConnectionSocketFactory>create()
+            .register("http", PlainConnectionSocketFactory.getSocketFactory())
+            .register("https", sslSocketFactory)
+            .build();
+    }
+}
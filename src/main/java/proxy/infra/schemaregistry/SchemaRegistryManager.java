@@ -21,7 +21,6 @@ import proxy.common.exception.SchemaRegistryException;
 import proxy.common.exception.resource.Errors;
 import proxy.common.format.EmbeddedFormat;
 import proxy.common.format.SchemaType;
-import proxy.common.util.HttpReqUtil;
 import proxy.common.util.JsonUtil;
 import proxy.infra.schemaregistry.response.SchemaRegistryResponse;
 import proxy.infra.schemaregistry.result.RegisteredSchema;
@@ -42,6 +41,9 @@ public class SchemaRegistryManager extends SchemaRegistryException {
     @Autowired
     private ProxyCacheManager cacheManager;
 
+    @Autowired
+    private SchemaRegistryHttpClient httpClient;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     public static final int MAX_MISSING_CACHE_SIZE = 10000;
@@ -49,7 +51,6 @@ public class SchemaRegistryManager extends SchemaRegistryException {
     public static final long MISSING_VERSION_CACHE_TTL = 60;
     public static final long MISSING_SCHEMA_CACHE_TTL = 60;
 
-    private static final String CONTENT_TYPE_KEY = "Content-Type";
     private static final String CONTENT_TYPE_VALUE = "application/vnd.schemaregistry.v1+json";
 
     /**
@@ -68,7 +69,7 @@ public class SchemaRegistryManager extends SchemaRegistryException {
 
         try {
             // GET 요청
-            var response = this.reqGet("/schemas/ids/" + schemaId, "");
+            var response = this.reqGet("/schemas/ids/" + schemaId, "", "/schemas/ids/{id}");
             restSchema = this.readValue(response);
         } catch (ProxyException e) {
             // 스키마를 찾을 수 없음 오류
@@ -104,7 +105,7 @@ public class SchemaRegistryManager extends SchemaRegistryException {
 
         try {
             // POST 요청
-            var response = this.reqPost("/subjects/" + subject, "", requestBody);
+            var response = this.reqPost("/subjects/" + subject, "", "/subjects/{subject}", requestBody);
             restSchema = this.readValue(response);
         } catch (ProxyException e) {
             // 스키마를 찾을 수 없음 오류
@@ -132,7 +133,7 @@ public class SchemaRegistryManager extends SchemaRegistryException {
         String requestBody = this.makeJsonString(SchemaType.getSchemaType(format), rawSchema);
 
         // POST 요청
-        var response = this.reqPost("/subjects/" + subject + "/versions", "", requestBody);
+        var response = this.reqPost("/subjects/" + subject + "/versions", "", "/subjects/{subject}/versions", requestBody);
         var restSchema = this.readValue(response);
 
         return restSchema.getSchemaId();
@@ -146,7 +147,7 @@ public class SchemaRegistryManager extends SchemaRegistryException {
      */
     public RegisteredSchema getLatestSchema(String subject) throws IOException {
         // GET 요청
-        var response = this.reqGet("/subjects/" + subject + "/versions/latest", ""); // TODO: url, response 확인
+        var response = this.reqGet("/subjects/" + subject + "/versions/latest", "", "/subjects/{subject}/versions/latest"); // TODO: url, response 확인
         var restSchema = this.readValue(response);
 
         return restSchema;
@@ -160,9 +161,10 @@ public class SchemaRegistryManager extends SchemaRegistryException {
      * http GET request
      * @param resourceUrl // should start-with '/'
      * @param additionalQueryParam // should start-with '?' optinal
+     * @param endpoint // 메트릭 태그로 사용할 엔드포인트
      * @return
      */
-    private SchemaRegistryResponse reqGet(String resourceUrl, String additionalQueryParam) {
+    private SchemaRegistryResponse reqGet(String resourceUrl, String additionalQueryParam, String endpoint) {
         Integer statusCode = 200; // 응답 상태코드
         String msg = ""; // 응답값
 
@@ -173,14 +175,11 @@ public class SchemaRegistryManager extends SchemaRegistryException {
             log.debug(">> request={}", encodedUrl);
 
             // 응답 반환
-            var response = HttpReqUtil.make(encodedUrl)
-                    .setMethod(HttpReqUtil.HTTP_METHOD.GET)
-                    .applyBasicAuth(kafkaRestConfig.getSchemaRegistryUsername(), kafkaRestConfig.getSchemaRegistryPassword())
-                    .send();
+            var response = this.httpClient.get(encodedUrl, endpoint);
             
             // 응답값 맵핑
             statusCode = response.getStatusCode();
-            msg = response.getResponseOrErr();
+            msg = response.getMessage();
 
         } catch (IOException e) {
             log.error("",e);
@@ -203,10 +202,11 @@ public class SchemaRegistryManager extends SchemaRegistryException {
      * http POST request
      * @param resourceUrl // should start-with '/'
      * @param additionalQueryParam // should start-with '?' optinal
+     * @param endpoint // 메트릭 태그로 사용할 엔드포인트
      * @param body // data
      * @return
      */
-    private SchemaRegistryResponse reqPost(String resourceUrl, String additionalQueryParam, String body) throws ProxyException {
+    private SchemaRegistryResponse reqPost(String resourceUrl, String additionalQueryParam, String endpoint, String body) throws ProxyException {
         Integer statusCode = 200; // 응답 상태코드
         String msg = ""; // 응답값
 
@@ -217,18 +217,15 @@ public class SchemaRegistryManager extends SchemaRegistryException {
             log.debug(">> request url={}, body={}", encodedUrl, body);
             
             // 응답 반환
-            var response =HttpReqUtil.make(encodedUrl)
-                    .setMethod(HttpReqUtil.HTTP_METHOD.POST)
-                    .addHeader(CONTENT_TYPE_KEY, CONTENT_TYPE_VALUE)
-                    .applyBasicAuth(kafkaRestConfig.getSchemaRegistryUsername(), kafkaRestConfig.getSchemaRegistryPassword())
-                    .sendBody(body);
+            var response = this.httpClient.post(encodedUrl, endpoint, CONTENT_TYPE_VALUE, body);
 
             // 응답값 맵핑
             statusCode = response.getStatusCode();
-            msg = response.getResponseOrErr();
+            msg = response.getMessage();
 
         } catch (IOException e) {
             log.error("",e);
+            statusCode = 502; // BAD_GATEWAY
             msg = e.getMessage();
 
         } finally {
@@ -1,19 +1,23 @@
 package proxy.schedular;
 
 import java.time.Clock;
-import java.time.Instant;
-import java.util.Iterator;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import proxy.common.config.KafkaRestConfig;
+import proxy.infra.kafka.ConsumerExpiration;
 import proxy.infra.kafka.ConsumerManager;
 import proxy.infra.kafka.worker.ConsumerWorker;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * 컨슈머 인스턴스 만료 체크 스케쥴러
+ * <pre>
+ * 컨슈머 인스턴스 만료/휴면 체크 스케쥴러
+ * - 컨슈머 풀 전체를 순회하지 않고, 만료 큐에서 만료 시각이 지난 항목만 꺼내서 확인
+ * - 꺼낸 인스턴스의 만료 시각이 그 사이 갱신된 경우, 갱신된 만료 시각으로 다시 등록
+ * </pre>
  */
 @Component
 @Slf4j
@@ -22,38 +26,85 @@ public class ExpirationSchedular {
     @Autowired
     private ConsumerManager consumerManager;
 
+    @Autowired
+    private KafkaRestConfig kafkaRestConfig;
+
     private final Clock clock = Clock.systemUTC();
 
     // 1초마다 만료된 컨슈머 인스턴스가 있는지 확인
 	@Scheduled(fixedDelay = 1000)
 	public void watch() {
         // 현재 시각
-        Instant now = clock.instant();
-
-        // 컨슈머 풀 조회
-        Iterator<ConsumerWorker<?, ?, ?, ?>> itr = this.consumerManager.getConsumerPool().values().iterator();
-
-        // 컨슈머 인스턴스마다 확인
-        while (itr.hasNext()) {
-            // 컨슈머 인스턴스 조회
-            final ConsumerWorker<?, ?, ?, ?> consumer = itr.next();
-
-            // 컨슈머 인스턴스가 존재하고, 만료된 경우
-            if (consumer != null && consumer.expired(now)) {
-                log.info("Removing the expired consumer [{}]", consumer.getInstanceId()); // debug
-                
-                // 컨슈머 풀에서 만료된 인스턴스 제거
-                this.consumerManager.removeConsumer(consumer.getInstanceId());
-
-                // 컨슈머 인스턴스 종료 작업 제출
-                this.consumerManager.getExecutor().submit(
-                    new Runnable() {
-                        @Override
-                        public void run() {
-                            consumer.close();
-                        }
-                    });
+        long now = clock.millis();
+
+        // 만료 시각이 지난 항목만 조회
+        ConsumerExpiration expiration;
+        while ((expiration = this.consumerManager.getExpirationQueue().poll()) != null) {
+            final ConsumerWorker<?, ?, ?, ?> consumer = expiration.getConsumer();
+
+            // 이미 컨슈머 풀에서 제거된 인스턴스인 경우, 만료 큐에서도 제거
+            if (!consumer.isActive()) {
+                continue;
+            }
+
+            // 만료 시각이 갱신된 경우, 다시 등록
+            if (!consumer.expired(now)) {
+                this.consumerManager.getExpirationQueue().add(new ConsumerExpiration(consumer));
+                continue;
+            }
+
+            log.info("Removing the expired consumer [{}]", consumer.getInstanceId()); // debug
+
+            // 컨슈머 풀에서 만료된 인스턴스 제거 (다른 요청에 의해 이미 제거되었거나 같은 이름의 새 인스턴스로 바뀐 경우, 종료하지 않음)
+            if (this.consumerManager.removeConsumer(consumer.getInstanceId(), consumer) == null) {
+                continue;
+            }
+
+            // 컨슈머 인스턴스 종료 작업 제출
+            this.consumerManager.getExecutor().submit(consumer::close);
+        }
+    }
+
+    // 1초마다 휴면 대기 시간 동안 사용되지 않은 컨슈머 인스턴스가 있는지 확인
+    @Scheduled(fixedDelay = 1000)
+    public void hibernate() {
+        long idleMs = this.kafkaRestConfig.getConsumerHibernateIdleMs();
+        // 휴면 미사용 시, 종료
+        if (idleMs <= 0) return;
+
+        // 현재 시각
+        long now = clock.millis();
+
+        // 휴면 기한이 지난 항목만 조회
+        ConsumerExpiration hibernation;
+        while ((hibernation = this.consumerManager.getHibernationQueue().poll()) != null) {
+            final ConsumerWorker<?, ?, ?, ?> consumer = hibernation.getConsumer();
+
+            // 이미 컨슈머 풀에서 제거된 인스턴스인 경우, 휴면 큐에서도 제거
+            if (!consumer.isActive()) {
+                continue;
             }
+
+            long deadline = consumer.getLastAccess() + idleMs;
+
+            // 휴면 대기 시간 이내에 사용된 경우, 갱신된 기한으로 다시 등록
+            // 이미 휴면 중인 경우, 재개 여부를 확인하기 위해 다시 등록
+            if (deadline > now || consumer.isHibernated()) {
+                this.consumerManager.getHibernationQueue().add(
+                    new ConsumerExpiration(consumer, Math.max(deadline, now + idleMs)));
+                continue;
+            }
+
+            // 컨슈머 종료가 느릴 수 있으므로, 종료 작업 스레드 풀에서 휴면 처리 후 다시 등록
+            this.consumerManager.getExecutor().submit(() -> {
+                try {
+                    consumer.hibernate(this.kafkaRestConfig.isConsumerHibernateCommit(), idleMs);
+                } catch (Exception e) {
+                    log.warn("Failed to hibernate consumer [{}]", consumer.getInstanceId(), e);
+                } finally {
+                    this.consumerManager.getHibernationQueue().add(new ConsumerExpiration(consumer, clock.millis() + idleMs));
+                }
+            });
         }
     }
 }
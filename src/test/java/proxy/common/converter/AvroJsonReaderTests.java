@@ -0,0 +1,173 @@
+package proxy.common.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DecoderFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import proxy.common.cache.AvroSchemaRegistry;
+import proxy.common.exception.ProxyException;
+import proxy.common.exception.resource.Errors;
+import proxy.common.format.EmbeddedFormat;
+import proxy.common.serializer.SchemaRecordSerializer;
+import proxy.common.util.AvroSchemaUtil;
+import proxy.infra.schemaregistry.result.RegisteredSchema;
+
+/**
+ * {@link AvroJsonReader} 결과가 JsonDecoder, GenericDatumReader로 읽은 결과와 동일한지 확인
+ */
+@ExtendWith(MockitoExtension.class)
+class AvroJsonReaderTests {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 모든 타입, alias, 중첩 union, 재귀 레코드를 포함한 스키마
+    private static final String RAW_SCHEMA = """
+        {
+          "type": "record",
+          "name": "Node",
+          "namespace": "proxy.test",
+          "fields": [
+            {"name": "nullValue", "type": "null"},
+            {"name": "booleanValue", "type": "boolean"},
+            {"name": "intValue", "type": "int"},
+            {"name": "longValue", "type": "long"},
+            {"name": "floatValue", "type": "float"},
+            {"name": "doubleValue", "type": "double"},
+            {"name": "bytesValue", "type": "bytes"},
+            {"name": "stringValue", "type": "string", "aliases": ["text"]},
+            {"name": "javaStringValue", "type": {"type": "string", "avro.java.string": "String"}},
+            {"name": "fixedValue", "type": {"type": "fixed", "name": "Hash", "size": 4}},
+            {"name": "enumValue", "type": {"type": "enum", "name": "Color", "symbols": ["RED", "GREEN"]}},
+            {"name": "arrayValue", "type": {"type": "array", "items": ["null", "long", "string"]}},
+            {"name": "mapValue", "type": {"type": "map", "values": ["null", "double", {"type": "array", "items": ["null", "Color"]}]}},
+            {"name": "unionValue", "type": ["null", "int", "bytes", "Hash", "Color", {"type": "map", "values": ["null", "float"]}]},
+            {"name": "next", "type": ["null", "Node"]}
+          ]
+        }
+        """;
+
+    private static final Schema SCHEMA = AvroSchemaUtil.toAvroSchema(RAW_SCHEMA);
+
+    private static final String LEAF = """
+        {
+          "nullValue": null, "booleanValue": false, "intValue": 0, "longValue": 0, "floatValue": 0, "doubleValue": 0,
+          "bytesValue": "", "text": "alias", "javaStringValue": "", "fixedValue": "\\u0000\\u0000\\u0000\\u0000",
+          "enumValue": "GREEN", "arrayValue": [], "mapValue": {}, "unionValue": {"int": -1}, "next": null
+        }
+        """;
+
+    @Mock
+    private AvroSchemaRegistry avroSchemaRegistry;
+
+    @InjectMocks
+    private SchemaRecordSerializer schemaRecordSerializer;
+
+    @Test
+    void readsSameDatumAsJsonDecoder() throws IOException {
+        assertSameAsJsonDecoder(LEAF);
+        assertSameAsJsonDecoder("""
+            {
+              "nullValue": null, "booleanValue": true, "intValue": -2147483648, "longValue": 9223372036854775807,
+              "floatValue": 1.1, "doubleValue": 1.0E20, "bytesValue": "bytes\\u0001\\u00e9\\u00ff",
+              "stringValue": "문자열 \\"escaped\\"", "javaStringValue": "java", "fixedValue": "\\u00ff\\u0001\\u0002\\u0003",
+              "enumValue": "RED", "arrayValue": [null, {"long": 1000000000000}, {"string": "item"}],
+              "mapValue": {"none": null, "double": {"double": 0.5}, "colors": {"array": [null, {"proxy.test.Color": "RED"}]}},
+              "unionValue": {"map": {"nan": {"float": "NaN"}, "one": {"float": 1}}},
+              "next": {"proxy.test.Node": %s}
+            }
+            """.formatted(LEAF));
+    }
+
+    @Test
+    void readsNamedUnionBranchesAndNonFiniteNumbers() throws IOException {
+        JsonNode node = objectMapper.readTree(LEAF);
+        for (String unionValue : List.of(
+                "null",
+                "{\"bytes\": \"\\u0000\\u00ff\"}",
+                "{\"proxy.test.Hash\": \"abcd\"}",
+                "{\"proxy.test.Color\": \"GREEN\"}")) {
+            ((ObjectNode) node).set("unionValue", objectMapper.readTree(unionValue));
+            assertSameAsJsonDecoder(objectMapper.writeValueAsString(node));
+        }
+
+        ((ObjectNode) node).put("floatValue", "-Infinity");
+        ((ObjectNode) node).put("doubleValue", "Infinity");
+        assertSameAsJsonDecoder(objectMapper.writeValueAsString(node));
+    }
+
+    @Test
+    void rejectsPayloadsRejectedByJsonDecoder() throws IOException {
+        for (String invalid : List.of(
+                // 필드 누락
+                LEAF.replace("\"nullValue\": null,", ""),
+                // 스키마에 없는 필드
+                LEAF.replace("\"nullValue\": null,", "\"nullValue\": null, \"unknown\": 1,"),
+                // 타입 불일치
+                LEAF.replace("\"intValue\": 0", "\"intValue\": \"0\""),
+                LEAF.replace("\"booleanValue\": false", "\"booleanValue\": 0"),
+                LEAF.replace("\"doubleValue\": 0", "\"doubleValue\": \"zero\""),
+                LEAF.replace("\"arrayValue\": []", "\"arrayValue\": {}"),
+                // 알 수 없는 enum 심볼, fixed 길이 불일치
+                LEAF.replace("\"enumValue\": \"GREEN\"", "\"enumValue\": \"BLUE\""),
+                LEAF.replace("\"fixedValue\": \"\\u0000\\u0000\\u0000\\u0000\"", "\"fixedValue\": \"abc\""),
+                // union 형식 오류
+                LEAF.replace("\"unionValue\": {\"int\": -1}", "\"unionValue\": -1"),
+                LEAF.replace("\"unionValue\": {\"int\": -1}", "\"unionValue\": {\"string\": \"x\"}"),
+                LEAF.replace("\"unionValue\": {\"int\": -1}", "\"unionValue\": {\"int\": -1, \"bytes\": \"\"}"))) {
+
+            assertThrows(Exception.class, () -> readWithJsonDecoder(invalid), invalid);
+            assertThrows(AvroTypeException.class, () -> AvroJsonReader.forSchema(SCHEMA).read(objectMapper.readTree(invalid)), invalid);
+        }
+    }
+
+    @Test
+    void mapsConversionFailureToJsonToObjectFailed() throws IOException {
+        when(avroSchemaRegistry.getCompiledSchema(eq(1), any())).thenReturn(AvroSchemaUtil.compile(RAW_SCHEMA));
+
+        RegisteredSchema schema = RegisteredSchema.builder().schemaId(1).schema(RAW_SCHEMA).schemaType("AVRO").build();
+        JsonNode invalid = objectMapper.readTree(LEAF.replace("\"enumValue\": \"GREEN\"", "\"enumValue\": \"BLUE\""));
+
+        ProxyException e = assertThrows(ProxyException.class,
+            () -> schemaRecordSerializer.serialize(EmbeddedFormat.AVRO, Optional.of(schema), invalid, false));
+        assertEquals(Errors.JSON_TO_OBJECT_FAILED, e.getErrors());
+    }
+
+    /**
+     * JsonDecoder, GenericDatumReader로 읽은 결과와 비교 (문자열 필드의 타입 포함)
+     * @param json
+     * @throws IOException
+     */
+    private static void assertSameAsJsonDecoder(String json) throws IOException {
+        GenericRecord expected = (GenericRecord) readWithJsonDecoder(json);
+        GenericRecord actual = (GenericRecord) AvroJsonReader.forSchema(SCHEMA).read(objectMapper.readTree(json));
+
+        assertEquals(expected, actual);
+        assertEquals(expected.get("stringValue").getClass(), actual.get("stringValue").getClass());
+        assertEquals(expected.get("javaStringValue").getClass(), actual.get("javaStringValue").getClass());
+    }
+
+    private static Object readWithJsonDecoder(String json) throws IOException {
+        return new GenericDatumReader<Object>(SCHEMA).read(null, DecoderFactory.get().jsonDecoder(SCHEMA, json));
+    }
+}
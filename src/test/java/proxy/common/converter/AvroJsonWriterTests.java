@@ -0,0 +1,153 @@
+package proxy.common.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.io.JsonEncoder;
+import org.apache.avro.util.Utf8;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@link AvroJsonWriter}, {@link JsonSize} 결과가 JsonEncoder 출력을 다시 파싱한 결과와 동일한지 확인
+ */
+class AvroJsonWriterTests {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 모든 타입, 중첩 union, 재귀 레코드를 포함한 스키마
+    private static final Schema SCHEMA = new Schema.Parser().parse("""
+        {
+          "type": "record",
+          "name": "Node",
+          "namespace": "proxy.test",
+          "fields": [
+            {"name": "nullValue", "type": "null"},
+            {"name": "booleanValue", "type": "boolean"},
+            {"name": "intValue", "type": "int"},
+            {"name": "longValue", "type": "long"},
+            {"name": "floatValue", "type": "float"},
+            {"name": "doubleValue", "type": "double"},
+            {"name": "bytesValue", "type": "bytes"},
+            {"name": "stringValue", "type": "string"},
+            {"name": "fixedValue", "type": {"type": "fixed", "name": "Hash", "size": 4}},
+            {"name": "enumValue", "type": {"type": "enum", "name": "Color", "symbols": ["RED", "GREEN"]}},
+            {"name": "arrayValue", "type": {"type": "array", "items": ["null", "long", "string"]}},
+            {"name": "mapValue", "type": {"type": "map", "values": ["null", "double", {"type": "array", "items": ["null", "Color"]}]}},
+            {"name": "unionValue", "type": ["null", "int", "bytes", "Hash", "Color", {"type": "map", "values": ["null", "float"]}]},
+            {"name": "next", "type": ["null", "Node"]},
+            {"name": "children", "type": {"type": "array", "items": "Node"}}
+          ]
+        }
+        """);
+
+    @Test
+    void writesSameTreeAsJsonEncoder() throws IOException {
+        assertSameAsJsonEncoder(SCHEMA, node(0, null));
+    }
+
+    @Test
+    void writesUnionBranchesAndRecursiveRecords() throws IOException {
+        GenericData.Record leaf = node(3, ByteBuffer.wrap(new byte[] { 0, 1, 2 }));
+        GenericData.Record child = node(2, new GenericData.Fixed(SCHEMA.getField("fixedValue").schema(), new byte[] { 9, 8, 7, 6 }));
+        child.put("next", leaf);
+
+        GenericData.Record root = node(1, new GenericData.EnumSymbol(SCHEMA.getField("enumValue").schema(), "GREEN"));
+        root.put("next", child);
+        root.put("children", List.of(leaf, child));
+
+        assertSameAsJsonEncoder(SCHEMA, root);
+    }
+
+    @Test
+    void writesSpecialNumbers() throws IOException {
+        GenericData.Record record = node(0, Map.of("nan", Float.NaN));
+        record.put("longValue", Long.MAX_VALUE);
+        record.put("floatValue", Float.NEGATIVE_INFINITY);
+        record.put("doubleValue", Double.NaN);
+        assertSameAsJsonEncoder(SCHEMA, record);
+
+        record.put("longValue", (long) Integer.MIN_VALUE);
+        record.put("floatValue", 1.1f);
+        record.put("doubleValue", 1.0E20);
+        assertSameAsJsonEncoder(SCHEMA, record);
+    }
+
+    @Test
+    void writesPrimitiveSchemas() throws IOException {
+        assertSameAsJsonEncoder(Schema.create(Schema.Type.STRING), new Utf8("\"escaped\"\n"));
+        assertSameAsJsonEncoder(Schema.create(Schema.Type.LONG), 5L);
+        assertSameAsJsonEncoder(Schema.create(Schema.Type.BYTES), ByteBuffer.wrap(new byte[] { (byte) 0xff, 0x7f, 0x00 }));
+    }
+
+    /**
+     * 모든 필드 값이 설정된 레코드 생성
+     * @param seed       // 필드 값 구분용
+     * @param unionValue // union 필드 값
+     * @return
+     */
+    private static GenericData.Record node(int seed, Object unionValue) {
+        Map<String, Object> mapValue = new LinkedHashMap<>();
+        mapValue.put("none", null);
+        mapValue.put("double", 0.1 * seed);
+        mapValue.put("colors", Arrays.asList(null, new GenericData.EnumSymbol(SCHEMA.getField("enumValue").schema(), "RED")));
+
+        List<Object> arrayValue = new ArrayList<>();
+        arrayValue.add(null);
+        arrayValue.add(seed * 1_000_000_000_000L);
+        arrayValue.add("item-" + seed);
+
+        GenericData.Record record = new GenericData.Record(SCHEMA);
+        record.put("nullValue", null);
+        record.put("booleanValue", seed % 2 == 0);
+        record.put("intValue", -seed);
+        record.put("longValue", (long) seed);
+        record.put("floatValue", 0.1f * seed);
+        record.put("doubleValue", 1.0 / 3 * seed);
+        record.put("bytesValue", ByteBuffer.wrap(("bytes\u0001é" + seed).getBytes(StandardCharsets.ISO_8859_1)));
+        record.put("stringValue", new Utf8("문자열 " + seed));
+        record.put("fixedValue", new GenericData.Fixed(SCHEMA.getField("fixedValue").schema(), new byte[] { 1, 2, 3, (byte) seed }));
+        record.put("enumValue", new GenericData.EnumSymbol(SCHEMA.getField("enumValue").schema(), "RED"));
+        record.put("arrayValue", arrayValue);
+        record.put("mapValue", mapValue);
+        record.put("unionValue", unionValue);
+        record.put("next", null);
+        record.put("children", List.of());
+        return record;
+    }
+
+    /**
+     * JsonEncoder 출력을 다시 파싱한 결과와 JsonNode, 직렬화 크기 비교
+     * @param schema
+     * @param datum
+     * @throws IOException
+     */
+    private static void assertSameAsJsonEncoder(Schema schema, Object datum) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        JsonEncoder encoder = EncoderFactory.get().jsonEncoder(schema, output);
+        new GenericDatumWriter<Object>(schema).write(datum, encoder);
+        encoder.flush();
+        byte[] expected = output.toByteArray();
+
+        JsonNode actual = AvroJsonWriter.forSchema(schema).write(datum);
+
+        assertEquals(objectMapper.readTree(expected), actual);
+        assertEquals(new String(expected, StandardCharsets.UTF_8), objectMapper.writeValueAsString(actual));
+        assertEquals(expected.length, JsonSize.of(actual));
+    }
+}
@@ -0,0 +1,266 @@
+package proxy.common.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumDescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumValueDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.MessageOptions;
+import com.google.protobuf.DescriptorProtos.OneofDescriptorProto;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import com.google.protobuf.Descriptors.EnumDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.Message;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.JsonFormat;
+
+/**
+ * {@link ProtobufJsonWriter} 결과가 JsonFormat 출력을 다시 파싱한 결과와 동일한지 확인
+ */
+class ProtobufJsonWriterTests {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final JsonFormat.Printer printer = JsonFormat.printer()
+        .includingDefaultValueFields()
+        .omittingInsignificantWhitespace();
+
+    @Test
+    void writesDefaultValues() throws Exception {
+        Descriptor node = buildNodeFile().findMessageTypeByName("Node");
+
+        assertSameAsJsonFormat(DynamicMessage.getDefaultInstance(node));
+    }
+
+    @Test
+    void writesAllFieldTypes() throws Exception {
+        FileDescriptor file = buildNodeFile();
+        Descriptor node = file.findMessageTypeByName("Node");
+        EnumDescriptor color = file.findEnumTypeByName("Color");
+
+        DynamicMessage leaf = DynamicMessage.newBuilder(node)
+            .setField(node.findFieldByName("string_value"), "<leaf> \"quoted\" 문자열")
+            .setField(node.findFieldByName("choice_number"), 7)
+            .build();
+
+        DynamicMessage.Builder root = DynamicMessage.newBuilder(node)
+            .setField(node.findFieldByName("int32_value"), -1)
+            .setField(node.findFieldByName("int64_value"), Long.MIN_VALUE)
+            .setField(node.findFieldByName("uint32_value"), -1)
+            .setField(node.findFieldByName("uint64_value"), -1L)
+            .setField(node.findFieldByName("sint32_value"), Integer.MIN_VALUE)
+            .setField(node.findFieldByName("sint64_value"), 12L)
+            .setField(node.findFieldByName("fixed32_value"), Integer.MAX_VALUE)
+            .setField(node.findFieldByName("fixed64_value"), Long.MAX_VALUE)
+            .setField(node.findFieldByName("sfixed32_value"), -32)
+            .setField(node.findFieldByName("sfixed64_value"), -64L)
+            .setField(node.findFieldByName("float_value"), 1.1f)
+            .setField(node.findFieldByName("double_value"), Double.NaN)
+            .setField(node.findFieldByName("bool_value"), true)
+            .setField(node.findFieldByName("bytes_value"), ByteString.copyFrom(new byte[] { 0, (byte) 0xff, 0x7f }))
+            .setField(node.findFieldByName("color"), color.findValueByNumberCreatingIfUnknown(42))
+            .addRepeatedField(node.findFieldByName("repeated_int64"), 1L)
+            .addRepeatedField(node.findFieldByName("repeated_int64"), 1L << 40)
+            .addRepeatedField(node.findFieldByName("children"), leaf)
+            .addRepeatedField(node.findFieldByName("children"), leaf)
+            .setField(node.findFieldByName("next"), leaf)
+            .setField(node.findFieldByName("choice_text"), "text")
+            .setField(node.findFieldByName("timestamp"), Timestamp.newBuilder().setSeconds(1_700_000_000L).setNanos(5).build());
+
+        addMapEntry(root, node.findFieldByName("labels"), "b", 2L);
+        addMapEntry(root, node.findFieldByName("labels"), "a", Long.MAX_VALUE);
+        addMapEntry(root, node.findFieldByName("flags"), -1, color.findValueByName("RED"));
+        addMapEntry(root, node.findFieldByName("flags"), 1, color.findValueByNumber(0));
+
+        assertSameAsJsonFormat(root.build());
+    }
+
+    @Test
+    void writesSpecialFloatingPointValues() throws Exception {
+        Descriptor node = buildNodeFile().findMessageTypeByName("Node");
+
+        assertSameAsJsonFormat(DynamicMessage.newBuilder(node)
+            .setField(node.findFieldByName("float_value"), Float.POSITIVE_INFINITY)
+            .setField(node.findFieldByName("double_value"), 1.0E20)
+            .build());
+        assertSameAsJsonFormat(DynamicMessage.newBuilder(node)
+            .setField(node.findFieldByName("float_value"), Float.NaN)
+            .setField(node.findFieldByName("double_value"), Double.NEGATIVE_INFINITY)
+            .build());
+    }
+
+    @Test
+    void writesExtensionFieldsInFieldNumberOrder() throws Exception {
+        FileDescriptor file = buildExtensionFile();
+        Descriptor extendable = file.findMessageTypeByName("Extendable");
+
+        DynamicMessage nested = DynamicMessage.newBuilder(extendable)
+            .setField(extendable.findFieldByName("id"), 2)
+            .setField(extendable.findFieldByName("name"), "nested")
+            .setField(file.findExtensionByName("tag"), "nested-tag")
+            .build();
+
+        DynamicMessage message = DynamicMessage.newBuilder(extendable)
+            .setField(extendable.findFieldByName("id"), 1)
+            .setField(extendable.findFieldByName("name"), "root")
+            .setField(file.findExtensionByName("tag"), "root-tag")
+            .addRepeatedField(file.findExtensionByName("codes"), 100L)
+            .addRepeatedField(file.findExtensionByName("codes"), 200L)
+            .setField(file.findExtensionByName("nested"), nested)
+            .build();
+
+        assertSameAsJsonFormat(message);
+    }
+
+    /**
+     * JsonFormat 출력을 다시 파싱한 결과와 JsonNode, 필드 순서 비교
+     * @param message
+     * @throws IOException
+     */
+    private static void assertSameAsJsonFormat(Message message) throws IOException {
+        JsonNode expected = objectMapper.readTree(printer.print(message));
+        JsonNode actual = ProtobufJsonWriter.forDescriptor(message.getDescriptorForType()).write(message);
+
+        assertEquals(expected, actual);
+        assertEquals(objectMapper.writeValueAsString(expected), objectMapper.writeValueAsString(actual));
+    }
+
+    /**
+     * map 필드에 항목 추가
+     * @param builder
+     * @param mapField
+     * @param key
+     * @param value
+     */
+    private static void addMapEntry(DynamicMessage.Builder builder, FieldDescriptor mapField, Object key, Object value) {
+        Descriptor entry = mapField.getMessageType();
+        builder.addRepeatedField(mapField, DynamicMessage.newBuilder(entry)
+            .setField(entry.findFieldByNumber(1), key)
+            .setField(entry.findFieldByNumber(2), value)
+            .build());
+    }
+
+    /**
+     * 모든 필드 타입, map, oneof, 재귀 메시지, well-known type을 포함한 proto3 파일
+     * @return
+     * @throws DescriptorValidationException
+     */
+    private static FileDescriptor buildNodeFile() throws DescriptorValidationException {
+        DescriptorProto node = DescriptorProto.newBuilder()
+            .setName("Node")
+            .addField(field("int32_value", 1, FieldDescriptorProto.Type.TYPE_INT32))
+            .addField(field("int64_value", 2, FieldDescriptorProto.Type.TYPE_INT64))
+            .addField(field("uint32_value", 3, FieldDescriptorProto.Type.TYPE_UINT32))
+            .addField(field("uint64_value", 4, FieldDescriptorProto.Type.TYPE_UINT64))
+            .addField(field("sint32_value", 5, FieldDescriptorProto.Type.TYPE_SINT32))
+            .addField(field("sint64_value", 6, FieldDescriptorProto.Type.TYPE_SINT64))
+            .addField(field("fixed32_value", 7, FieldDescriptorProto.Type.TYPE_FIXED32))
+            .addField(field("fixed64_value", 8, FieldDescriptorProto.Type.TYPE_FIXED64))
+            .addField(field("sfixed32_value", 9, FieldDescriptorProto.Type.TYPE_SFIXED32))
+            .addField(field("sfixed64_value", 10, FieldDescriptorProto.Type.TYPE_SFIXED64))
+            .addField(field("float_value", 11, FieldDescriptorProto.Type.TYPE_FLOAT))
+            .addField(field("double_value", 12, FieldDescriptorProto.Type.TYPE_DOUBLE))
+            .addField(field("bool_value", 13, FieldDescriptorProto.Type.TYPE_BOOL))
+            .addField(field("string_value", 14, FieldDescriptorProto.Type.TYPE_STRING))
+            .addField(field("bytes_value", 15, FieldDescriptorProto.Type.TYPE_BYTES))
+            .addField(typed("color", 16, FieldDescriptorProto.Type.TYPE_ENUM, ".proxy.test.Color"))
+            .addField(repeated(field("repeated_int64", 17, FieldDescriptorProto.Type.TYPE_INT64)))
+            .addField(repeated(typed("children", 18, FieldDescriptorProto.Type.TYPE_MESSAGE, ".proxy.test.Node")))
+            .addField(typed("next", 19, FieldDescriptorProto.Type.TYPE_MESSAGE, ".proxy.test.Node"))
+            .addField(repeated(typed("labels", 20, FieldDescriptorProto.Type.TYPE_MESSAGE, ".proxy.test.Node.LabelsEntry")))
+            .addField(repeated(typed("flags", 21, FieldDescriptorProto.Type.TYPE_MESSAGE, ".proxy.test.Node.FlagsEntry")))
+            .addField(field("choice_text", 22, FieldDescriptorProto.Type.TYPE_STRING).setOneofIndex(0))
+            .addField(field("choice_number", 23, FieldDescriptorProto.Type.TYPE_INT32).setOneofIndex(0))
+            .addField(typed("timestamp", 24, FieldDescriptorProto.Type.TYPE_MESSAGE, ".google.protobuf.Timestamp"))
+            .addOneofDecl(OneofDescriptorProto.newBuilder().setName("choice"))
+            .addNestedType(mapEntry("LabelsEntry",
+                field("key", 1, FieldDescriptorProto.Type.TYPE_STRING),
+                field("value", 2, FieldDescriptorProto.Type.TYPE_INT64)))
+            .addNestedType(mapEntry("FlagsEntry",
+                field("key", 1, FieldDescriptorProto.Type.TYPE_UINT32),
+                typed("value", 2, FieldDescriptorProto.Type.TYPE_ENUM, ".proxy.test.Color")))
+            .build();
+
+        EnumDescriptorProto color = EnumDescriptorProto.newBuilder()
+            .setName("Color")
+            .addValue(EnumValueDescriptorProto.newBuilder().setName("COLOR_UNSPECIFIED").setNumber(0))
+            .addValue(EnumValueDescriptorProto.newBuilder().setName("RED").setNumber(1))
+            .build();
+
+        FileDescriptorProto file = FileDescriptorProto.newBuilder()
+            .setName("proxy/test/node.proto")
+            .setPackage("proxy.test")
+            .setSyntax("proto3")
+            .addDependency(Timestamp.getDescriptor().getFile().getName())
+            .addMessageType(node)
+            .addEnumType(color)
+            .build();
+
+        return FileDescriptor.buildFrom(file, new FileDescriptor[] { Timestamp.getDescriptor().getFile() });
+    }
+
+    /**
+     * 확장 필드를 포함한 proto2 파일 (일반 필드와 확장 필드의 번호가 교차함)
+     * @return
+     * @throws DescriptorValidationException
+     */
+    private static FileDescriptor buildExtensionFile() throws DescriptorValidationException {
+        DescriptorProto extendable = DescriptorProto.newBuilder()
+            .setName("Extendable")
+            .addField(field("id", 1, FieldDescriptorProto.Type.TYPE_INT32))
+            .addField(field("name", 20, FieldDescriptorProto.Type.TYPE_STRING))
+            .addExtensionRange(DescriptorProto.ExtensionRange.newBuilder().setStart(10).setEnd(20))
+            .addExtensionRange(DescriptorProto.ExtensionRange.newBuilder().setStart(100).setEnd(200))
+            .build();
+
+        FileDescriptorProto file = FileDescriptorProto.newBuilder()
+            .setName("proxy/test/extension.proto")
+            .setPackage("proxy.test.ext")
+            .setSyntax("proto2")
+            .addMessageType(extendable)
+            .addExtension(field("tag", 10, FieldDescriptorProto.Type.TYPE_STRING).setExtendee(".proxy.test.ext.Extendable"))
+            .addExtension(repeated(field("codes", 100, FieldDescriptorProto.Type.TYPE_INT64)).setExtendee(".proxy.test.ext.Extendable"))
+            .addExtension(typed("nested", 101, FieldDescriptorProto.Type.TYPE_MESSAGE, ".proxy.test.ext.Extendable")
+                .setExtendee(".proxy.test.ext.Extendable"))
+            .build();
+
+        return FileDescriptor.buildFrom(file, new FileDescriptor[0]);
+    }
+
+    private static FieldDescriptorProto.Builder field(String name, int number, FieldDescriptorProto.Type type) {
+        return FieldDescriptorProto.newBuilder()
+            .setName(name)
+            .setNumber(number)
+            .setType(type)
+            .setLabel(FieldDescriptorProto.Label.LABEL_OPTIONAL);
+    }
+
+    private static FieldDescriptorProto.Builder typed(String name, int number, FieldDescriptorProto.Type type, String typeName) {
+        return field(name, number, type).setTypeName(typeName);
+    }
+
+    private static FieldDescriptorProto.Builder repeated(FieldDescriptorProto.Builder field) {
+        return field.setLabel(FieldDescriptorProto.Label.LABEL_REPEATED);
+    }
+
+    private static DescriptorProto mapEntry(String name, FieldDescriptorProto.Builder key, FieldDescriptorProto.Builder value) {
+        return DescriptorProto.newBuilder()
+            .setName(name)
+            .addField(key)
+            .addField(value)
+            .setOptions(MessageOptions.newBuilder().setMapEntry(true))
+            .build();
+    }
+}